@@ -0,0 +1,118 @@
+#!/usr/bin/env bash
+#
+# Compares platform-thread and virtual-thread request execution under high client concurrency.
+#
+# Boots a throwaway MySQL container, then runs the packaged application once per mode against it and
+# drives GET /posts and GET /posts/{id} with `hey`. Each run writes the raw hey report to
+# benchmarks/http/results/<mode>-<endpoint>.txt and a summary (req/s, p50, p99) is printed at the end.
+# Virtual-thread runs use -Djdk.tracePinnedThreads=short, and the number of pinning stack traces is reported
+# so regressions that reintroduce monitor pinning on hot paths show up next to the numbers.
+#
+# Requirements: docker, curl, jq, hey (https://github.com/rakyll/hey), JDK 21.
+#
+# Usage: benchmarks/http/virtual-threads.sh
+#   CONCURRENCY=1000 DURATION=60s WARMUP=15s POSTS=500 DATABASE_POOL_SIZE=10 benchmarks/http/virtual-threads.sh
+#
+set -euo pipefail
+
+CONCURRENCY=${CONCURRENCY:-1000}
+DURATION=${DURATION:-60s}
+WARMUP=${WARMUP:-15s}
+POSTS=${POSTS:-500}
+DATABASE_POOL_SIZE=${DATABASE_POOL_SIZE:-10}
+DB_PORT=${DB_PORT:-3307}
+APP_PORT=${APP_PORT:-8080}
+
+ROOT=$(cd "$(dirname "$0")/../.." && pwd)
+RESULTS="$ROOT/benchmarks/http/results"
+DB_CONTAINER=blogposts-bench-db
+BASE_URL="http://localhost:$APP_PORT"
+BENCH_USER=benchuser
+BENCH_PASSWORD=benchpassword
+
+mkdir -p "$RESULTS"
+
+cleanup() {
+    [[ -n "${APP_PID:-}" ]] && kill "$APP_PID" 2>/dev/null || true
+    docker rm -f "$DB_CONTAINER" >/dev/null 2>&1 || true
+}
+trap cleanup EXIT
+
+wait_for() {
+    local what=$1; shift
+    for _ in $(seq 1 120); do
+        if "$@" >/dev/null 2>&1; then return 0; fi
+        sleep 1
+    done
+    echo "Timed out waiting for $what" >&2
+    exit 1
+}
+
+(cd "$ROOT" && ./mvnw -B -q -DskipTests package)
+JAR=$(ls "$ROOT"/target/blog_post_manager-*.jar | grep -v -e original -e classes | head -n1)
+
+docker rm -f "$DB_CONTAINER" >/dev/null 2>&1 || true
+docker run -d --name "$DB_CONTAINER" -p "$DB_PORT:3306" \
+    -e MYSQL_DATABASE=blogposts -e MYSQL_USER=bench -e MYSQL_PASSWORD=bench -e MYSQL_ROOT_PASSWORD=bench \
+    mysql:9.3.0 >/dev/null
+wait_for "MySQL" docker exec "$DB_CONTAINER" mysqladmin ping -h 127.0.0.1 -ubench -pbench --silent
+
+run_mode() {
+    local mode=$1 virtual=$2
+    local log="$RESULTS/$mode-app.log"
+    local java_opts=()
+    [[ "$virtual" == "true" ]] && java_opts+=(-Djdk.tracePinnedThreads=short)
+
+    DATABASE_URL="jdbc:mysql://localhost:$DB_PORT/blogposts" \
+    DATABASE_USERNAME=bench DATABASE_PASSWORD=bench \
+    DATABASE_POOL_SIZE="$DATABASE_POOL_SIZE" \
+    TOKEN_SECRET=benchmark-secret-that-is-at-least-32-bytes-long \
+    VIRTUAL_THREADS_ENABLED="$virtual" \
+    CONCURRENCY_LIMIT_ENABLED=false \
+        java "${java_opts[@]}" -jar "$JAR" --server.port="$APP_PORT" >"$log" 2>&1 &
+    APP_PID=$!
+    wait_for "application ($mode)" curl -sf "$BASE_URL/actuator/health"
+
+    # Registration answers 4xx once the user exists from a previous mode; that is fine.
+    curl -s -o /dev/null -H 'Content-Type: application/json' \
+        -d "{\"username\":\"$BENCH_USER\",\"password\":\"$BENCH_PASSWORD\"}" "$BASE_URL/users"
+    local token
+    token=$(curl -sf -u "$BENCH_USER:$BENCH_PASSWORD" -X POST "$BASE_URL/auth/token" | jq -r .accessToken)
+    local auth="Authorization: Bearer $token"
+
+    local existing
+    existing=$(curl -sf -H "$auth" "$BASE_URL/posts?limit=1" | jq '.items | length')
+    if [[ "$existing" == "0" ]]; then
+        for i in $(seq 1 "$POSTS"); do
+            curl -sf -o /dev/null -H "$auth" -H 'Content-Type: application/json' \
+                -d "{\"title\":\"Benchmark post $i\",\"content\":\"Body of benchmark post $i\"}" "$BASE_URL/posts"
+        done
+    fi
+    local post_id
+    post_id=$(curl -sf -H "$auth" "$BASE_URL/posts?limit=1" | jq -r '.items[0].id')
+
+    hey -z "$WARMUP" -c "$CONCURRENCY" -H "$auth" "$BASE_URL/posts" >/dev/null
+    hey -z "$DURATION" -c "$CONCURRENCY" -H "$auth" "$BASE_URL/posts" >"$RESULTS/$mode-feed.txt"
+    hey -z "$DURATION" -c "$CONCURRENCY" -H "$auth" "$BASE_URL/posts/$post_id" >"$RESULTS/$mode-post.txt"
+
+    kill "$APP_PID"
+    wait "$APP_PID" 2>/dev/null || true
+    APP_PID=
+}
+
+summarize() {
+    local file=$1
+    local rps p50 p99
+    rps=$(awk '/Requests\/sec/ {print $2}' "$file")
+    p50=$(awk '/ 50% in / {print $3}' "$file")
+    p99=$(awk '/ 99% in / {print $3}' "$file")
+    printf '%-28s %12s req/s   p50 %8ss   p99 %8ss\n' "$(basename "$file" .txt)" "$rps" "$p50" "$p99"
+}
+
+run_mode platform false
+run_mode virtual true
+
+echo
+echo "concurrency=$CONCURRENCY duration=$DURATION pool=$DATABASE_POOL_SIZE"
+for f in "$RESULTS"/platform-*.txt "$RESULTS"/virtual-*.txt; do summarize "$f"; done
+echo "pinned virtual-thread stack traces: $(grep -c 'onPinned' "$RESULTS/virtual-app.log" || true)"
@@ -0,0 +1,132 @@
+#!/usr/bin/env bash
+#
+# Compares Hibernate's ddl-auto: update against the Flyway migrations with ddl-auto: validate.
+#
+# Boots a throwaway MySQL container with one database per mode. Each mode runs the packaged application twice
+# and records the second, steady-state start (the schema already exists, so only introspection or validation
+# and the Flyway history check are left). Each mode then seeds the same users and posts and writes EXPLAIN
+# output for the feed and user lookup queries, plus SHOW INDEX, to benchmarks/schema/results/<mode>-explain.txt.
+# Start times are printed at the end.
+#
+# Requirements: docker, curl, JDK 21.
+#
+# Usage: benchmarks/schema/migrations.sh
+#   POSTS=200000 DB_PORT=3307 benchmarks/schema/migrations.sh
+#
+set -euo pipefail
+
+POSTS=${POSTS:-200000}
+DB_PORT=${DB_PORT:-3307}
+APP_PORT=${APP_PORT:-8080}
+
+ROOT=$(cd "$(dirname "$0")/../.." && pwd)
+RESULTS="$ROOT/benchmarks/schema/results"
+DB_CONTAINER=blogposts-schema-db
+
+mkdir -p "$RESULTS"
+
+cleanup() {
+    [[ -n "${APP_PID:-}" ]] && kill "$APP_PID" 2>/dev/null || true
+    docker rm -f "$DB_CONTAINER" >/dev/null 2>&1 || true
+}
+trap cleanup EXIT
+
+wait_for() {
+    local what=$1; shift
+    for _ in $(seq 1 120); do
+        if "$@" >/dev/null 2>&1; then return 0; fi
+        sleep 1
+    done
+    echo "Timed out waiting for $what" >&2
+    exit 1
+}
+
+mysql_exec() {
+    local db=$1; shift
+    docker exec -i "$DB_CONTAINER" mysql -uroot -pbench --table "$db" "$@" 2>/dev/null
+}
+
+(cd "$ROOT" && ./mvnw -B -q -DskipTests package)
+JAR=$(ls "$ROOT"/target/blog_post_manager-*.jar | grep -v -e original -e classes | head -n1)
+
+docker rm -f "$DB_CONTAINER" >/dev/null 2>&1 || true
+docker run -d --name "$DB_CONTAINER" -p "$DB_PORT:3306" -e MYSQL_ROOT_PASSWORD=bench mysql:9.3.0 >/dev/null
+wait_for "MySQL" docker exec "$DB_CONTAINER" mysqladmin ping -h 127.0.0.1 -uroot -pbench --silent
+
+# Starts the application against database $1 with extra Spring properties, waits for it, and prints the
+# "Started ... in N seconds" figure.
+boot() {
+    local db=$1 log=$2; shift 2
+    DATABASE_URL="jdbc:mysql://localhost:$DB_PORT/$db" \
+    DATABASE_USERNAME=root DATABASE_PASSWORD=bench \
+    TOKEN_SECRET=benchmark-secret-that-is-at-least-32-bytes-long \
+    POST_INDEX_DIR="$RESULTS/$db-index" \
+        java -jar "$JAR" --server.port="$APP_PORT" "$@" >"$log" 2>&1 &
+    APP_PID=$!
+    wait_for "application ($db)" curl -sf "http://localhost:$APP_PORT/actuator/health"
+    kill "$APP_PID"
+    wait "$APP_PID" 2>/dev/null || true
+    APP_PID=
+    grep -o 'Started BlogPostManagerApplication in [0-9.]* seconds' "$log" | awk '{print $4}'
+}
+
+seed() {
+    local db=$1
+    mysql_exec "$db" <<SQL
+insert into users (username, password) values ('author', 'x'), ('other', 'x');
+insert into roles (name) values ('USER'), ('ADMIN');
+insert into user_roles (user_id, role_id) select u.id, r.id from users u cross join roles r where r.name = 'USER';
+set session cte_max_recursion_depth = $POSTS;
+insert into post (author_id, title, created_at, updated_at)
+with recursive n (i) as (select 1 union all select i + 1 from n where i < $POSTS)
+select (select id from users where username = if(i % 10 = 0, 'author', 'other')), concat('Post ', i),
+       now(6) - interval i second, now(6) - interval i second
+from n;
+analyze table post, users, user_roles;
+SQL
+}
+
+explain() {
+    local db=$1
+    mysql_exec "$db" <<'SQL'
+-- PostRepository.findFirstPageByAuthor
+explain select p.id, p.title, a.username, p.created_at, p.views from post p join users a on a.id = p.author_id
+where p.author_id = (select id from users where username = 'author')
+order by p.created_at desc, p.id desc limit 21;
+-- PostRepository.findPageByAuthorAfter
+explain select p.id, p.title, a.username, p.created_at, p.views from post p join users a on a.id = p.author_id
+where p.author_id = (select id from users where username = 'author')
+  and (p.created_at < now(6) - interval 1000 second or (p.created_at = now(6) - interval 1000 second and p.id < 1000))
+order by p.created_at desc, p.id desc limit 21;
+-- PostRepository.findFirstPage
+explain select p.id, p.title, a.username, p.created_at, p.views from post p join users a on a.id = p.author_id
+order by p.created_at desc, p.id desc limit 21;
+-- UserRepository.findByUsername with roles
+explain select u.id, u.password, u.username, r.id, r.name from users u
+left join user_roles ur on ur.user_id = u.id left join roles r on r.id = ur.role_id
+where u.username = 'author';
+show index from post;
+show index from user_roles;
+SQL
+}
+
+run_mode() {
+    local mode=$1; shift
+    local db="blogposts_${mode//-/_}"
+    docker exec "$DB_CONTAINER" mysql -uroot -pbench -e "create database $db" 2>/dev/null
+    boot "$db" "$RESULTS/$mode-first.log" "$@" >/dev/null
+    local started
+    started=$(boot "$db" "$RESULTS/$mode-app.log" "$@")
+    echo "$started" >"$RESULTS/$mode-startup.txt"
+    seed "$db"
+    explain "$db" >"$RESULTS/$mode-explain.txt"
+}
+
+run_mode ddl-update --spring.flyway.enabled=false --spring.jpa.hibernate.ddl-auto=update
+run_mode flyway-validate
+
+echo
+echo "posts=$POSTS"
+for mode in ddl-update flyway-validate; do
+    printf '%-16s started in %8ss   plans: %s\n' "$mode" "$(cat "$RESULTS/$mode-startup.txt")" "$RESULTS/$mode-explain.txt"
+done
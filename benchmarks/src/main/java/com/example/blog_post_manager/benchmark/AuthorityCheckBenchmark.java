@@ -0,0 +1,46 @@
+package com.example.blog_post_manager.benchmark;
+
+import com.example.blog_post_manager.security.authentication.Authorities;
+import com.example.blog_post_manager.user.model.User;
+import com.example.blog_post_manager.user.model.UserRole;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+// Calls the application's own checks: the authorities a User hands to the authentication on a credential cache
+// miss, and the admin check the controllers run on every request.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuthorityCheckBenchmark {
+    @Param({"USER", "ADMIN"})
+    public UserRole role;
+
+    private User user;
+    private Authentication authentication;
+
+    @Setup
+    public void setup() {
+        user = role == UserRole.ADMIN
+                ? Fixtures.user("benchmark-user", UserRole.USER, UserRole.ADMIN)
+                : Fixtures.user("benchmark-user", UserRole.USER);
+        authentication = UsernamePasswordAuthenticationToken.authenticated(user.getUsername(), null, user.getAuthorities());
+    }
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> userAuthorities() {
+        return user.getAuthorities();
+    }
+
+    @Benchmark
+    public boolean controllerIsAdmin() {
+        return Authorities.isAdmin(authentication);
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.blog_post_manager.benchmark;
+
+import com.example.blog_post_manager.post.content.PostContentCodec;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CPU cost of writing and reading post bodies in each storage mode. Each trial prints the size that ends up in
+ * the content column, so the time can be weighed against the bytes saved.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContentCompressionBenchmark {
+    @Param({"1024", "16384", "131072"})
+    public int length;
+
+    // 0 stores plain text; other values are deflate levels.
+    @Param({"0", "1", "6", "9"})
+    public int level;
+
+    private PostContentCodec codec;
+    private String text;
+    private byte[] stored;
+
+    @Setup
+    public void setup() {
+        codec = new PostContentCodec(level > 0, 0, Math.max(level, 1));
+        text = Fixtures.prose(length);
+        stored = codec.encode(text);
+        System.out.printf("stored %d of %d bytes (%.2fx)%n", stored.length, length, (double) length / stored.length);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return codec.encode(text);
+    }
+
+    @Benchmark
+    public String decode() {
+        return PostContentCodec.decode(stored);
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.blog_post_manager.benchmark;
+
+import com.example.blog_post_manager.post.dto.PostSummaryDTO;
+import com.example.blog_post_manager.post.model.Post;
+import com.example.blog_post_manager.user.model.Role;
+import com.example.blog_post_manager.user.model.User;
+import com.example.blog_post_manager.user.model.UserRole;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Detached entities and DTOs shaped like what the services see on a typical request.
+final class Fixtures {
+    static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 1, 12, 30, 15, 123_000_000);
+    private static final String[] WORDS = ("the a of to and in is that for it with as was on be by this are at from "
+            + "post blog write draft reader garbage collection latency database index query cache thread memory "
+            + "heap pause throughput request response server client benchmark profile compile runtime java spring "
+            + "hibernate transaction commit rollback column table schema migration deploy release version").split(" ");
+
+    private Fixtures() {
+    }
+
+    static User user(String username, UserRole... roles) {
+        User u = new User(username, "$2a$10$abcdefghijklmnopqrstuuJ6C0R6pFqIkGXLzUyK0kcd9qhQ0t5xi");
+        for (UserRole role : roles) {
+            u.addRole(new Role(role));
+        }
+        return u;
+    }
+
+    static Post post(User author, int contentLength) {
+        return new Post("A reasonably long post title for benchmarking", "x".repeat(contentLength), author);
+    }
+
+    // English-like text from a fixed vocabulary; it compresses roughly like real prose, unlike a repeated character.
+    static String prose(int length) {
+        Random random = new Random(42);
+        StringBuilder text = new StringBuilder(length + 16);
+        while (text.length() < length) {
+            text.append(WORDS[random.nextInt(WORDS.length)]);
+            text.append(random.nextInt(12) == 0 ? ". " : " ");
+        }
+        return text.substring(0, length);
+    }
+
+    static List<PostSummaryDTO> summaries(int count) {
+        List<PostSummaryDTO> posts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            posts.add(new PostSummaryDTO((long) i, "Post title number " + i, "author" + (i % 7), CREATED_AT.minusMinutes(i), 0));
+        }
+        return List.copyOf(posts);
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.blog_post_manager.benchmark;
+
+import com.example.blog_post_manager.post.dto.CreatePostResponseDTO;
+import com.example.blog_post_manager.post.dto.PostDTO;
+import com.example.blog_post_manager.post.dto.PostSummaryDTO;
+import com.example.blog_post_manager.post.mapper.PostMapper;
+import com.example.blog_post_manager.post.model.Post;
+import com.example.blog_post_manager.user.dto.UserResponseDTO;
+import com.example.blog_post_manager.user.mapper.UserMapper;
+import com.example.blog_post_manager.user.model.User;
+import com.example.blog_post_manager.user.model.UserRole;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+    private User user;
+    private Post post;
+
+    @Setup
+    public void setup() {
+        user = Fixtures.user("benchmark-user", UserRole.USER);
+        post = Fixtures.post(user, 2_000);
+    }
+
+    @Benchmark
+    public PostDTO toPostDto() {
+        return PostMapper.toPostDto(post);
+    }
+
+    @Benchmark
+    public PostSummaryDTO toPostSummaryDto() {
+        return PostMapper.toPostSummaryDto(post);
+    }
+
+    @Benchmark
+    public CreatePostResponseDTO toCreatePostResponseDto() {
+        return PostMapper.toCreatePostResponseDTO(post);
+    }
+
+    @Benchmark
+    public UserResponseDTO toUserResponseDto() {
+        return UserMapper.toUserResponseDTO(user);
+    }
+}
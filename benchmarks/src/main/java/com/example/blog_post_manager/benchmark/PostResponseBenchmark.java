@@ -0,0 +1,45 @@
+package com.example.blog_post_manager.benchmark;
+
+import com.example.blog_post_manager.post.cache.PostResponseCache;
+import com.example.blog_post_manager.post.dto.PostDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.unit.DataSize;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PostResponseBenchmark {
+    @Param({"1024", "16384"})
+    public int length;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private PostResponseCache uncached;
+    private PostResponseCache cached;
+    private PostDTO post;
+
+    @Setup
+    public void setup() {
+        uncached = new PostResponseCache(objectMapper, false, DataSize.ofMegabytes(64), true, DataSize.ofKilobytes(1));
+        cached = new PostResponseCache(objectMapper, true, DataSize.ofMegabytes(64), true, DataSize.ofKilobytes(1));
+        post = new PostDTO("A reasonably long post title for benchmarking", Fixtures.prose(length), "author",
+                Fixtures.CREATED_AT, 1234);
+    }
+
+    // What every GET /posts/{id} cost before: a full Jackson pass over the content.
+    @Benchmark
+    public byte[] serialize() {
+        return uncached.render(1L, Fixtures.CREATED_AT, post, true).bytes();
+    }
+
+    @Benchmark
+    public byte[] cachedGzip() {
+        return cached.render(1L, Fixtures.CREATED_AT, post, true).bytes();
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.blog_post_manager.benchmark;
+
+import com.example.blog_post_manager.post.dto.PostSummaryDTO;
+import com.example.blog_post_manager.post.dto.PostSummaryPageDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+    @Param({"20", "100"})
+    public int size;
+
+    // Configured like the ObjectMapper Spring MVC uses to write responses.
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private List<PostSummaryDTO> posts;
+    private PostSummaryPageDTO page;
+
+    @Setup
+    public void setup() {
+        posts = Fixtures.summaries(size);
+        page = new PostSummaryPageDTO(posts, "MjAyNS0wMS0wMVQxMjozMDoxNS4xMjN8MTA");
+    }
+
+    @Benchmark
+    public byte[] summaryList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(posts);
+    }
+
+    @Benchmark
+    public byte[] summaryPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
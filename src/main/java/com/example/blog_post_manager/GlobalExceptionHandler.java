@@ -1,8 +1,11 @@
 package com.example.blog_post_manager;
 
 import com.example.blog_post_manager.dto.error.ErrorDetails;
+import com.example.blog_post_manager.post.exception.InvalidCursorException;
 import com.example.blog_post_manager.post.exception.ResourceNotFoundException;
 import com.example.blog_post_manager.user.exception.UserWithUsernameAlreadyExistsException;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -17,15 +20,23 @@ import java.util.Map;
 
 @ControllerAdvice
 public class GlobalExceptionHandler {
+    // Absent in test slices without metrics; handlers then simply skip counting.
+    private final MeterRegistry meterRegistry;
+
+    public GlobalExceptionHandler(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry.getIfAvailable();
+    }
 
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<ErrorDetails> handleResourceNotFoundException(ResourceNotFoundException ex, WebRequest request) {
+        count(ex, HttpStatus.NOT_FOUND);
         ErrorDetails errorDetails = new ErrorDetails(HttpStatus.NOT_FOUND.value(), ex.getMessage(), request.getDescription(false));
         return new ResponseEntity<>(errorDetails, HttpStatus.NOT_FOUND);
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, String>> handleMethodArgumentNotValidException(MethodArgumentNotValidException ex, WebRequest request) {
+        count(ex, HttpStatus.BAD_REQUEST);
         HashMap<String, String> errors = new HashMap<>();
         ex.getBindingResult().getAllErrors().forEach(error -> {
             String fieldName = ((FieldError) error).getField();
@@ -37,13 +48,29 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(UserWithUsernameAlreadyExistsException.class)
     public ResponseEntity<ErrorDetails> handleUserWithUsernameAlreadyExistsException(UserWithUsernameAlreadyExistsException ex, WebRequest request) {
+        count(ex, HttpStatus.UNPROCESSABLE_ENTITY);
         ErrorDetails errorDetails = new ErrorDetails(HttpStatus.UNPROCESSABLE_ENTITY.value(), ex.getMessage(), request.getDescription(false));
         return new ResponseEntity<>(errorDetails, HttpStatus.UNPROCESSABLE_ENTITY);
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorDetails> handleInvalidCursorException(InvalidCursorException ex, WebRequest request) {
+        count(ex, HttpStatus.BAD_REQUEST);
+        ErrorDetails errorDetails = new ErrorDetails(HttpStatus.BAD_REQUEST.value(), ex.getMessage(), request.getDescription(false));
+        return new ResponseEntity<>(errorDetails, HttpStatus.BAD_REQUEST);
+    }
+
     @ExceptionHandler(AccessDeniedException.class)
     public ResponseEntity<ErrorDetails> handleAccessDeniedException(AccessDeniedException ex, WebRequest request) {
+        count(ex, HttpStatus.FORBIDDEN);
         ErrorDetails errorDetails = new ErrorDetails(HttpStatus.FORBIDDEN.value(), ex.getMessage(), request.getDescription(false));
         return new ResponseEntity<>(errorDetails, HttpStatus.FORBIDDEN);
     }
+
+    private void count(Exception ex, HttpStatus status) {
+        if (meterRegistry == null) return;
+        meterRegistry.counter("api.exceptions",
+                "exception", ex.getClass().getSimpleName(),
+                "status", String.valueOf(status.value())).increment();
+    }
 }
@@ -0,0 +1,29 @@
+package com.example.blog_post_manager.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Runs reads whose result outlives the request, such as post cache loads, against the primary even inside a
+ * read-only transaction. A lagging replica would otherwise put an old version back into a cache after the write
+ * that replaced it had already invalidated the entry. Without a replica configured this has no effect.
+ */
+public final class PrimaryReads {
+    private static final ThreadLocal<Boolean> ACTIVE = new ThreadLocal<>();
+
+    private PrimaryReads() {
+    }
+
+    public static <T> T call(Supplier<T> action) {
+        boolean outermost = ACTIVE.get() == null;
+        ACTIVE.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (outermost) ACTIVE.remove();
+        }
+    }
+
+    static boolean isActive() {
+        return ACTIVE.get() != null;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.blog_post_manager.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+
+/**
+ * Users who committed a write within the last window. Their read-only transactions stay on the primary
+ * until the replica has had time to catch up, so they always see what they just wrote.
+ */
+public class RecentWriters {
+    private final Cache<String, Boolean> writers;
+
+    public RecentWriters(Duration window) {
+        this.writers = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    public void recordWrite(String username) {
+        writers.put(username, Boolean.TRUE);
+    }
+
+    public boolean wroteRecently(String username) {
+        return writers.getIfPresent(username) != null;
+    }
+}
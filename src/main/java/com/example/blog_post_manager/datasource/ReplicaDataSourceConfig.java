@@ -0,0 +1,64 @@
+package com.example.blog_post_manager.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import java.time.Duration;
+
+/**
+ * Read/write splitting, enabled by setting app.datasource.replica.url. The primary pool is still configured
+ * through spring.datasource; without a replica URL this configuration stays out of the way and Spring Boot
+ * sets up its usual single pool.
+ */
+@Configuration
+@ConditionalOnProperty("app.datasource.replica.url")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    // The replica pool is not registered as a bean, so Boot's datasource health indicator only checks the primary
+    // and an unreachable replica cannot fail the application's health check; ReplicaRoutingDataSource tracks the
+    // replica's health itself. The pool object is created here, but it only opens connections on first use.
+    @Bean
+    ReplicaRoutingDataSource replicaRoutingDataSource(
+            HikariDataSource primaryDataSource, DataSourceProperties properties, MeterRegistry meterRegistry,
+            @Value("${app.datasource.replica.url}") String url,
+            @Value("${app.datasource.replica.username:${spring.datasource.username}}") String username,
+            @Value("${app.datasource.replica.password:${spring.datasource.password}}") String password,
+            @Value("${app.datasource.replica.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${app.datasource.replica.connection-timeout-ms:2000}") long connectionTimeoutMs,
+            @Value("${app.datasource.replica.read-your-writes-window:5s}") Duration readYourWritesWindow) {
+        HikariDataSource replica = new HikariDataSource();
+        replica.setPoolName("replica");
+        replica.setDriverClassName(properties.determineDriverClassName());
+        replica.setJdbcUrl(url);
+        replica.setUsername(username);
+        replica.setPassword(password);
+        replica.setMaximumPoolSize(maximumPoolSize);
+        replica.setConnectionTimeout(connectionTimeoutMs);
+        // Fail at first use rather than at startup, so a replica outage never blocks a deploy.
+        replica.setInitializationFailTimeout(-1);
+        replica.setDataSourceProperties(primaryDataSource.getDataSourceProperties());
+        replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return new ReplicaRoutingDataSource(primaryDataSource, replica, new RecentWriters(readYourWritesWindow));
+    }
+
+    @Bean
+    @Primary
+    LazyConnectionDataSourceProxy dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
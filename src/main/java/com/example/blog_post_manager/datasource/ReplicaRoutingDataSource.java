@@ -0,0 +1,107 @@
+package com.example.blog_post_manager.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+
+/**
+ * Hands out replica connections to read-only transactions and primary connections to everything else. It has to
+ * sit behind a LazyConnectionDataSourceProxy so the connection is only fetched once the transaction's read-only
+ * flag is known. A replica that fails to hand out a connection is taken out of rotation until the next health
+ * check succeeds, and users who just wrote keep reading from the primary for a short window. Reads wrapped in
+ * {@link PrimaryReads} always go to the primary.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final RecentWriters recentWriters;
+    private volatile boolean replicaHealthy = true;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, RecentWriters recentWriters) {
+        this.primary = primary;
+        this.replica = replica;
+        this.recentWriters = recentWriters;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (replicaHealthy && !PrimaryReads.isActive() && !wroteRecently()) {
+                try {
+                    return replica.getConnection();
+                } catch (SQLException e) {
+                    markReplicaDown(e);
+                }
+            }
+        } else {
+            rememberWriterAfterCommit();
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Connections are always opened with the configured credentials");
+    }
+
+    public boolean isReplicaHealthy() {
+        return replicaHealthy;
+    }
+
+    // The replica pool is owned here; the primary is a bean of its own and closed by the container.
+    public void close() throws Exception {
+        if (replica instanceof AutoCloseable closeable) closeable.close();
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.health-check-interval-ms:5000}")
+    public void checkReplica() {
+        boolean healthy;
+        try (Connection con = replica.getConnection()) {
+            healthy = con.isValid(VALIDATION_TIMEOUT_SECONDS);
+        } catch (SQLException e) {
+            healthy = false;
+        }
+        if (healthy && !replicaHealthy) log.info("Replica is reachable again, routing read-only transactions to it");
+        if (!healthy && replicaHealthy) log.warn("Replica failed its health check, routing reads to the primary");
+        replicaHealthy = healthy;
+    }
+
+    private void markReplicaDown(SQLException e) {
+        if (replicaHealthy) log.warn("Cannot get a replica connection, routing reads to the primary", e);
+        replicaHealthy = false;
+    }
+
+    private boolean wroteRecently() {
+        String user = currentUser();
+        return user != null && recentWriters.wroteRecently(user);
+    }
+
+    private void rememberWriterAfterCommit() {
+        String user = currentUser();
+        if (user == null || !TransactionSynchronizationManager.isSynchronizationActive()) return;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriters.recordWrite(user);
+            }
+        });
+    }
+
+    private static String currentUser() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        return auth == null ? null : auth.getName();
+    }
+}
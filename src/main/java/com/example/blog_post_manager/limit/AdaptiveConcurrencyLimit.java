@@ -0,0 +1,113 @@
+package com.example.blog_post_manager.limit;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AIMD concurrency limit. Every completed request is a sample: a slow or failed one multiplies the limit by the
+ * backoff ratio, a fast one while the limit was actually in use raises it by one. Requests admitted before the last
+ * decrease saw the old limit, so their slow samples belong to the same congestion event and do not back off again.
+ * Writes may only use a share of the limit, so under pressure they are shed before reads.
+ */
+public class AdaptiveConcurrencyLimit implements MeterBinder {
+    public enum Priority {
+        READ,
+        WRITE
+    }
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private final double writeShare;
+    private final AtomicInteger limit;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final AtomicLong lastBackoffNanos = new AtomicLong(System.nanoTime());
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, Duration latencyThreshold,
+                                    double backoffRatio, double writeShare) {
+        if (minLimit < 1 || minLimit > maxLimit) throw new IllegalArgumentException("Need 1 <= min-limit <= max-limit");
+        if (backoffRatio <= 0 || backoffRatio >= 1) throw new IllegalArgumentException("backoff-ratio must be in (0, 1)");
+        if (writeShare <= 0 || writeShare > 1) throw new IllegalArgumentException("write-share must be in (0, 1]");
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.backoffRatio = backoffRatio;
+        this.writeShare = writeShare;
+        this.limit = new AtomicInteger(Math.clamp(initialLimit, minLimit, maxLimit));
+    }
+
+    /**
+     * Returns a permit that must be released when the request completes, or null when the request should be
+     * rejected. Lock-free, so request threads (virtual or not) never block here.
+     */
+    public Permit tryAcquire(Priority priority) {
+        int max = priority == Priority.READ ? limit.get() : Math.max(1, (int) (limit.get() * writeShare));
+        while (true) {
+            int current = inflight.get();
+            if (current >= max) return null;
+            if (inflight.compareAndSet(current, current + 1)) return new Permit(System.nanoTime(), current + 1);
+        }
+    }
+
+    void onSample(long startNanos, long endNanos, int inflightAtStart, boolean dropped) {
+        if (dropped || endNanos - startNanos > latencyThresholdNanos) {
+            long last = lastBackoffNanos.get();
+            if (startNanos - last < 0 || !lastBackoffNanos.compareAndSet(last, endNanos)) return;
+            limit.updateAndGet(l -> Math.max(minLimit, (int) (l * backoffRatio)));
+        } else if (inflightAtStart * 2 >= limit.get()) {
+            // Only grow when the limit is what is holding requests back, not while traffic is light.
+            limit.updateAndGet(l -> Math.min(maxLimit, l + 1));
+        }
+    }
+
+    public int limit() {
+        return limit.get();
+    }
+
+    public int inflight() {
+        return inflight.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("concurrency.limit", limit, AtomicInteger::get)
+                .description("Current adaptive limit on concurrent requests")
+                .register(registry);
+        Gauge.builder("concurrency.inflight", inflight, AtomicInteger::get)
+                .description("Requests currently holding a concurrency permit")
+                .register(registry);
+    }
+
+    public final class Permit {
+        private final long startNanos;
+        private final int inflightAtStart;
+
+        private Permit(long startNanos, int inflightAtStart) {
+            this.startNanos = startNanos;
+            this.inflightAtStart = inflightAtStart;
+        }
+
+        /**
+         * @param dropped whether the request failed in a way that signals overload, such as a server error
+         */
+        public void release(boolean dropped) {
+            release(dropped, true);
+        }
+
+        /**
+         * @param dropped whether the request failed in a way that signals overload, such as a server error
+         * @param timed   false when the request's latency is dominated by something other than the protected
+         *                resource; it then only counts if dropped
+         */
+        public void release(boolean dropped, boolean timed) {
+            inflight.decrementAndGet();
+            if (timed || dropped) onSample(startNanos, System.nanoTime(), inflightAtStart, dropped);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.blog_post_manager.limit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Load shedding in front of the request handlers, enabled with app.limit.enabled. The filter is ordered ahead of
+ * the Spring Security chain so a rejected request costs neither a password check nor a database round trip.
+ */
+@Configuration
+@ConditionalOnProperty(value = "app.limit.enabled", havingValue = "true")
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    AdaptiveConcurrencyLimit adaptiveConcurrencyLimit(
+            @Value("${app.limit.initial-limit:20}") int initialLimit,
+            @Value("${app.limit.min-limit:4}") int minLimit,
+            @Value("${app.limit.max-limit:200}") int maxLimit,
+            @Value("${app.limit.latency-threshold:250ms}") Duration latencyThreshold,
+            @Value("${app.limit.backoff-ratio:0.9}") double backoffRatio,
+            @Value("${app.limit.write-share:0.75}") double writeShare) {
+        return new AdaptiveConcurrencyLimit(initialLimit, minLimit, maxLimit, latencyThreshold, backoffRatio, writeShare);
+    }
+
+    @Bean
+    FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            AdaptiveConcurrencyLimit limit, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+            @Value("${app.limit.retry-after:1s}") Duration retryAfter) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration =
+                new FilterRegistrationBean<>(new ConcurrencyLimitFilter(limit, objectMapper, retryAfter, meterRegistry));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 10);
+        return registration;
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.blog_post_manager.limit;
+
+import com.example.blog_post_manager.dto.error.ErrorDetails;
+import com.example.blog_post_manager.limit.AdaptiveConcurrencyLimit.Permit;
+import com.example.blog_post_manager.limit.AdaptiveConcurrencyLimit.Priority;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Admits requests under the {@link AdaptiveConcurrencyLimit} and answers the rest with an immediate 503 and a
+ * Retry-After header, before they reach authentication or the connection pool. GET and HEAD requests are reads;
+ * everything else is a write.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+    // Health checks must answer under load; export, import and bulk requests are expected to run long and would
+    // only drag the limit down for everyone else. Token issuing spends its time in BCrypt, not the database.
+    private static final String[] EXCLUDED_PREFIXES =
+            {"/actuator", "/posts/export", "/posts/import", "/posts/bulk", "/auth"};
+
+    private final AdaptiveConcurrencyLimit limit;
+    private final ObjectMapper objectMapper;
+    private final String retryAfterSeconds;
+    private final Map<Priority, Counter> rejected;
+
+    public ConcurrencyLimitFilter(AdaptiveConcurrencyLimit limit, ObjectMapper objectMapper, Duration retryAfter,
+                                  MeterRegistry meterRegistry) {
+        this.limit = limit;
+        this.objectMapper = objectMapper;
+        this.retryAfterSeconds = Long.toString(Math.max(1, retryAfter.toSeconds()));
+        this.rejected = Map.of(
+                Priority.READ, rejectedCounter(meterRegistry, Priority.READ),
+                Priority.WRITE, rejectedCounter(meterRegistry, Priority.WRITE));
+    }
+
+    private static Counter rejectedCounter(MeterRegistry registry, Priority priority) {
+        return Counter.builder("concurrency.rejected")
+                .description("Requests rejected with 503 by the concurrency limit")
+                .tag("priority", priority.name().toLowerCase())
+                .register(registry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (String prefix : EXCLUDED_PREFIXES) {
+            if (path.startsWith(prefix)) return true;
+        }
+        // Registration hashes the new password with BCrypt.
+        return HttpMethod.POST.matches(request.getMethod()) && path.equals("/users");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Priority priority = isRead(request) ? Priority.READ : Priority.WRITE;
+        Permit permit = limit.tryAcquire(priority);
+        if (permit == null) {
+            rejected.get(priority).increment();
+            reject(request, response);
+            return;
+        }
+        boolean dropped = true;
+        try {
+            chain.doFilter(request, response);
+            dropped = response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+        } finally {
+            // A Basic request may have paid for a BCrypt check on a credential cache miss, so its latency says
+            // nothing about database load; only its failures count.
+            permit.release(dropped, !isBasicAuth(request));
+        }
+    }
+
+    private static boolean isRead(HttpServletRequest request) {
+        return HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod());
+    }
+
+    private static boolean isBasicAuth(HttpServletRequest request) {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        return authorization != null && authorization.regionMatches(true, 0, "Basic ", 0, 6);
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new ErrorDetails(HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Server is busy, retry later", "uri=" + request.getRequestURI()));
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.blog_post_manager.post.cache;
+
+import com.example.blog_post_manager.post.dto.PostDTO;
+
+import java.time.LocalDateTime;
+
+/**
+ * A mapped post with its owner. The view count is kept beside the DTO, not in it, so flushed views can be applied
+ * without evicting the entry; see {@link PostCache#addViews}.
+ */
+public record CachedPost(
+        PostDTO post,
+        String owner,
+        LocalDateTime updatedAt,
+        long views
+) {
+    public CachedPost withViews(long views) {
+        return new CachedPost(post, owner, updatedAt, views);
+    }
+}
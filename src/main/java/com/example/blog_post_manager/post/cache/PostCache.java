@@ -0,0 +1,143 @@
+package com.example.blog_post_manager.post.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of mapped posts together with their owner, so authorization can be checked
+ * without touching the database. Concurrent misses for the same post share a single load.
+ */
+@Component
+public class PostCache implements MeterBinder {
+    private final Cache<Long, CachedPost> cache;
+    private final AtomicLong invalidations = new AtomicLong();
+    private final ConcurrentMap<Long, CompletableFuture<CachedPost>> loading = new ConcurrentHashMap<>();
+    private final int maximumLoading;
+    private final long loadTimeoutNanos;
+    private final AtomicLong coalesced = new AtomicLong();
+
+    public PostCache(@Value("${app.post.cache.ttl:10m}") Duration ttl,
+                     @Value("${app.post.cache.maximum-size:10000}") long maximumSize,
+                     @Value("${app.post.cache.maximum-loading:1000}") int maximumLoading,
+                     @Value("${app.post.cache.load-timeout:5s}") Duration loadTimeout) {
+        this.maximumLoading = maximumLoading;
+        this.loadTimeoutNanos = loadTimeout.toNanos();
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    public CachedPost getIfPresent(Long id) {
+        return cache.getIfPresent(id);
+    }
+
+    public CachedPost get(Long id, Function<Long, CachedPost> loader) {
+        CachedPost cached = cache.getIfPresent(id);
+        if (cached != null) return cached;
+
+        // Single flight: the first miss loads, later misses for the same id wait for its result instead of
+        // querying again. Past maximumLoading distinct ids the table stops growing and misses load on their own.
+        CompletableFuture<CachedPost> flight = loading.get(id);
+        if (flight == null) {
+            if (loading.size() >= maximumLoading) return load(id, loader);
+            CompletableFuture<CachedPost> own = new CompletableFuture<>();
+            flight = loading.putIfAbsent(id, own);
+            if (flight == null) return lead(id, loader, own);
+        }
+        coalesced.incrementAndGet();
+        try {
+            return flight.get(loadTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            // Followers see the leader's failure as their own, e.g. the ResourceNotFoundException for a missing post.
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            if (e.getCause() instanceof Error cause) throw cause;
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            // The leader is stuck, most likely waiting for a connection; stop waiting on it and load like any miss.
+            return load(id, loader);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for post " + id + " to load", e);
+        }
+    }
+
+    private CachedPost lead(Long id, Function<Long, CachedPost> loader, CompletableFuture<CachedPost> flight) {
+        try {
+            CachedPost loaded = load(id, loader);
+            flight.complete(loaded);
+            return loaded;
+        } catch (Throwable e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(id, flight);
+        }
+    }
+
+    private CachedPost load(Long id, Function<Long, CachedPost> loader) {
+        // The loader runs outside the map's lock so database I/O never blocks other keys. If any invalidation
+        // happened while it ran, the loaded value may predate that write and is returned but not cached.
+        long seen = invalidations.get();
+        CachedPost loaded = loader.apply(id);
+        cache.asMap().compute(id, (key, existing) -> {
+            if (existing != null) return existing;
+            return invalidations.get() == seen ? loaded : null;
+        });
+        return loaded;
+    }
+
+    // Views change every few seconds on a busy post, so flushed counts are applied to the entry instead of evicting
+    // it. A load that is running meanwhile may have read the count from before the flush; bumping the invalidation
+    // counter keeps it from being cached.
+    public void addViews(Long id, long views) {
+        invalidations.incrementAndGet();
+        cache.asMap().computeIfPresent(id, (key, cached) -> cached.withViews(cached.views() + views));
+    }
+
+    public void invalidate(Long id) {
+        invalidations.incrementAndGet();
+        cache.invalidate(id);
+        // A load already under way may have read the row before this write; later readers must not join it.
+        loading.remove(id);
+    }
+
+    // Readers that load between the write and its commit still see the old row, so the entry is dropped once more after commit.
+    public void invalidateAfterCommit(Long id) {
+        invalidate(id);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(id);
+            }
+        });
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "posts");
+        FunctionCounter.builder("posts.loads.coalesced", coalesced, AtomicLong::get)
+                .description("Post cache misses served by another request's load")
+                .register(registry);
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.blog_post_manager.post.cache;
+
+import com.example.blog_post_manager.post.dto.PostDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialized GET /posts/{id} bodies, optionally with a gzip copy made once up front, so repeated reads of
+ * a post skip Jackson and compression. An entry is reused only while the post's updatedAt and view count
+ * match, which are the only ways its rendering can change. Disabled, every call serializes afresh.
+ */
+@Component
+public class PostResponseCache implements MeterBinder {
+    public record Body(byte[] bytes, boolean gzipped) {
+    }
+
+    private record Entry(LocalDateTime updatedAt, long views, byte[] json, byte[] gzip) {
+        int weight() {
+            return json.length + (gzip == null ? 0 : gzip.length);
+        }
+    }
+
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, Entry> cache;
+    private final boolean gzip;
+    private final long gzipMinBytes;
+
+    public PostResponseCache(ObjectMapper objectMapper,
+                             @Value("${app.post.response-cache.enabled:false}") boolean enabled,
+                             @Value("${app.post.response-cache.maximum-size:64MB}") DataSize maximumSize,
+                             @Value("${app.post.response-cache.gzip:true}") boolean gzip,
+                             @Value("${app.post.response-cache.gzip-min-size:1KB}") DataSize gzipMinSize) {
+        this.objectMapper = objectMapper;
+        this.cache = enabled
+                ? Caffeine.newBuilder()
+                        .maximumWeight(maximumSize.toBytes())
+                        .<Long, Entry>weigher((id, entry) -> entry.weight())
+                        .recordStats()
+                        .build()
+                : null;
+        this.gzip = gzip;
+        this.gzipMinBytes = gzipMinSize.toBytes();
+    }
+
+    public Body render(Long id, LocalDateTime updatedAt, PostDTO post, boolean acceptsGzip) {
+        if (cache == null) return new Body(serialize(post), false);
+
+        Entry entry = cache.getIfPresent(id);
+        if (entry == null || !entry.updatedAt().equals(updatedAt) || entry.views() != post.views()) {
+            byte[] json = serialize(post);
+            entry = new Entry(updatedAt, post.views(), json, gzip && json.length >= gzipMinBytes ? gzip(json) : null);
+            cache.put(id, entry);
+        }
+        return acceptsGzip && entry.gzip() != null ? new Body(entry.gzip(), true) : new Body(entry.json(), false);
+    }
+
+    // True unless gzip is missing from the header or explicitly refused with q=0.
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) return false;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            if (!name.equalsIgnoreCase("gzip") && !name.equals("*")) continue;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.matches("q=0(\\.0*)?")) return false;
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private byte[] serialize(PostDTO post) {
+        try {
+            return objectMapper.writeValueAsBytes(post);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize post", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 3);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (cache != null) CaffeineCacheMetrics.monitor(registry, cache, "post-responses");
+    }
+}
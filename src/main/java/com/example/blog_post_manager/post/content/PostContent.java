@@ -0,0 +1,52 @@
+package com.example.blog_post_manager.post.content;
+
+import java.util.Objects;
+
+/**
+ * Post body as held by the entity. Values read from the database keep their stored bytes and are only
+ * decoded when the text is first asked for, so loading a post does not pay for decompression by itself.
+ */
+public final class PostContent {
+    private final byte[] stored;
+    private String text;
+
+    private PostContent(byte[] stored, String text) {
+        this.stored = stored;
+        this.text = text;
+    }
+
+    public static PostContent of(String text) {
+        return text == null ? null : new PostContent(null, text);
+    }
+
+    static PostContent fromStored(byte[] stored) {
+        return new PostContent(stored, null);
+    }
+
+    public String text() {
+        if (text == null) text = PostContentCodec.decode(stored);
+        return text;
+    }
+
+    // Bytes as last read from the database, or null for values created in this session.
+    byte[] stored() {
+        return stored;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PostContent other)) return false;
+        return text().equals(other.text());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(text());
+    }
+
+    @Override
+    public String toString() {
+        return text();
+    }
+}
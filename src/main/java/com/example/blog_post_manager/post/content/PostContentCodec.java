@@ -0,0 +1,114 @@
+package com.example.blog_post_manager.post.content;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Storage format of post bodies. Rows written before compression existed hold plain UTF-8 text; compressed
+ * rows start with a header byte that plain text never begins with, followed by the original length and the
+ * deflated bytes.
+ */
+@Component
+public class PostContentCodec {
+    static final byte RAW = 0x00;
+    static final byte DEFLATE = 0x01;
+    private static final int DEFLATE_HEADER_LENGTH = 1 + Integer.BYTES;
+
+    private final boolean enabled;
+    private final int threshold;
+    private final int level;
+
+    public PostContentCodec(@Value("${app.post.content.compression.enabled:false}") boolean enabled,
+                            @Value("${app.post.content.compression.threshold-bytes:1024}") int threshold,
+                            @Value("${app.post.content.compression.level:1}") int level) {
+        this.enabled = enabled;
+        this.threshold = threshold;
+        this.level = level;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public byte[] encode(String text) {
+        byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+        if (enabled && utf8.length >= threshold) {
+            byte[] deflated = deflate(utf8);
+            if (deflated.length < utf8.length) return deflated;
+        }
+        // Text that happens to start with a header byte is tagged as raw so it cannot be mistaken for one.
+        if (utf8.length > 0 && (utf8[0] == RAW || utf8[0] == DEFLATE)) {
+            byte[] tagged = new byte[utf8.length + 1];
+            tagged[0] = RAW;
+            System.arraycopy(utf8, 0, tagged, 1, utf8.length);
+            return tagged;
+        }
+        return utf8;
+    }
+
+    // Re-encodes a stored value under the current settings, or returns null when it is already as small as it gets.
+    public byte[] recompress(byte[] stored) {
+        if (!enabled || isCompressed(stored)) return null;
+        byte[] encoded = encode(decode(stored));
+        return isCompressed(encoded) ? encoded : null;
+    }
+
+    public static String decode(byte[] stored) {
+        if (stored.length == 0) return "";
+        return switch (stored[0]) {
+            case RAW -> new String(stored, 1, stored.length - 1, StandardCharsets.UTF_8);
+            case DEFLATE -> inflate(stored);
+            default -> new String(stored, StandardCharsets.UTF_8);
+        };
+    }
+
+    public static boolean isCompressed(byte[] stored) {
+        return stored.length > 0 && stored[0] == DEFLATE;
+    }
+
+    private byte[] deflate(byte[] utf8) {
+        Deflater deflater = new Deflater(level);
+        try {
+            deflater.setInput(utf8);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(utf8.length / 2 + DEFLATE_HEADER_LENGTH);
+            out.write(DEFLATE);
+            out.writeBytes(ByteBuffer.allocate(Integer.BYTES).putInt(utf8.length).array());
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static String inflate(byte[] stored) {
+        int length = ByteBuffer.wrap(stored, 1, Integer.BYTES).getInt();
+        byte[] utf8 = new byte[length];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(stored, DEFLATE_HEADER_LENGTH, stored.length - DEFLATE_HEADER_LENGTH);
+            int read = 0;
+            while (read < length && !inflater.finished()) {
+                int n = inflater.inflate(utf8, read, length - read);
+                if (n == 0 && inflater.needsInput()) break;
+                read += n;
+            }
+            if (read != length) throw new IllegalStateException("Truncated compressed post content");
+            return new String(utf8, StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupt compressed post content", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.blog_post_manager.post.content;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.hibernate.annotations.Immutable;
+
+@Converter
+@Immutable
+public class PostContentConverter implements AttributeConverter<PostContent, byte[]> {
+    private final PostContentCodec codec;
+
+    public PostContentConverter(PostContentCodec codec) {
+        this.codec = codec;
+    }
+
+    @Override
+    public byte[] convertToDatabaseColumn(PostContent content) {
+        if (content == null) return null;
+        // Unchanged values are written back as they were read instead of being compressed again.
+        return content.stored() != null ? content.stored() : codec.encode(content.text());
+    }
+
+    @Override
+    public PostContent convertToEntityAttribute(byte[] stored) {
+        return stored == null ? null : PostContent.fromStored(stored);
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.blog_post_manager.post.content;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compresses the bodies of posts written before compression was enabled. post_body rows are walked in id
+ * batches over plain JDBC so neither the entity listeners nor updated_at are touched, and each batch commits
+ * on its own. A body whose post was edited after it was read is skipped; its new body is compressed by the
+ * normal write path.
+ */
+@Component
+public class PostContentMigrationJob {
+    private static final Logger log = LoggerFactory.getLogger(PostContentMigrationJob.class);
+
+    private static final String SELECT_BATCH = """
+            select b.post_id, b.content, p.updated_at
+            from post_body b join post p on p.id = b.post_id
+            where b.post_id > ?
+            order by b.post_id
+            limit ?""";
+    private static final String UPDATE_CONTENT = """
+            update post_body set content = ?
+            where post_id = ? and exists (select 1 from post p where p.id = post_body.post_id and p.updated_at = ?)""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PostContentCodec codec;
+    private final int batchSize;
+    private final boolean migrateOnStartup;
+
+    public PostContentMigrationJob(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                   PostContentCodec codec,
+                                   @Value("${app.post.content.migration.batch-size:500}") int batchSize,
+                                   @Value("${app.post.content.migration.on-startup:false}") boolean migrateOnStartup) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.codec = codec;
+        this.batchSize = batchSize;
+        this.migrateOnStartup = migrateOnStartup;
+    }
+
+    public record Result(long scanned, long compressed, long bytesBefore, long bytesAfter) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateOnStartup() {
+        if (!migrateOnStartup || !codec.isEnabled()) return;
+        Thread.ofVirtual().name("post-content-migration").start(this::run);
+    }
+
+    public Result run() {
+        if (!codec.isEnabled()) return new Result(0, 0, 0, 0);
+        long scanned = 0, compressed = 0, bytesBefore = 0, bytesAfter = 0;
+        long lastId = 0;
+        while (true) {
+            List<Row> batch = jdbcTemplate.query(SELECT_BATCH,
+                    (rs, i) -> new Row(rs.getLong(1), rs.getBytes(2), rs.getTimestamp(3)), lastId, batchSize);
+            if (batch.isEmpty()) break;
+            lastId = batch.getLast().id();
+            scanned += batch.size();
+
+            List<Update> updates = new ArrayList<>();
+            for (Row row : batch) {
+                if (row.content() == null) continue;
+                byte[] recompressed = codec.recompress(row.content());
+                if (recompressed != null) updates.add(new Update(row, recompressed));
+            }
+            if (updates.isEmpty()) continue;
+            List<Object[]> args = updates.stream()
+                    .map(u -> new Object[]{u.content(), u.row().id(), u.row().updatedAt()})
+                    .toList();
+            int[] counts = transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(UPDATE_CONTENT, args));
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] == 0) continue;
+                compressed++;
+                bytesBefore += updates.get(i).row().content().length;
+                bytesAfter += updates.get(i).content().length;
+            }
+        }
+        log.info("Compressed {} of {} post bodies ({} -> {} bytes)", compressed, scanned, bytesBefore, bytesAfter);
+        return new Result(scanned, compressed, bytesBefore, bytesAfter);
+    }
+
+    private record Row(long id, byte[] content, Timestamp updatedAt) {
+    }
+
+    private record Update(Row row, byte[] content) {
+    }
+}
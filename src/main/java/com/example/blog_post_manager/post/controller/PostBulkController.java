@@ -0,0 +1,41 @@
+package com.example.blog_post_manager.post.controller;
+
+import com.example.blog_post_manager.post.dto.BulkPostResultDTO;
+import com.example.blog_post_manager.post.dto.BulkPostSelectionDTO;
+import com.example.blog_post_manager.post.dto.BulkReassignDTO;
+import com.example.blog_post_manager.post.service.PostBulkService;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import static com.example.blog_post_manager.security.authentication.Authorities.isAdmin;
+
+// Results are reported per post, so a partly successful request still answers 200.
+@RestController
+@RequestMapping("posts/bulk")
+public class PostBulkController {
+    private final PostBulkService postBulkService;
+
+    public PostBulkController(PostBulkService postBulkService) {
+        this.postBulkService = postBulkService;
+    }
+
+    @PostMapping("/delete")
+    public ResponseEntity<BulkPostResultDTO> deletePosts(@Valid @RequestBody BulkPostSelectionDTO selection,
+                                                         Authentication auth) {
+        final BulkPostResultDTO result = isAdmin(auth)
+                ? postBulkService.deletePostsAdmin(selection)
+                : postBulkService.deletePosts(selection, auth.getName());
+        return ResponseEntity.ok(result);
+    }
+
+    // Admin-only, see SecurityConfig: owners could otherwise push content into other accounts.
+    @PostMapping("/reassign")
+    public ResponseEntity<BulkPostResultDTO> reassignPosts(@Valid @RequestBody BulkReassignDTO reassign) {
+        return ResponseEntity.ok(postBulkService.reassignPostsAdmin(reassign.posts(), reassign.to()));
+    }
+}
@@ -1,44 +1,91 @@
 package com.example.blog_post_manager.post.controller;
 
+import com.example.blog_post_manager.post.cache.PostResponseCache;
 import com.example.blog_post_manager.post.dto.*;
 import com.example.blog_post_manager.post.service.PostService;
-import com.example.blog_post_manager.user.model.UserRole;
+import com.example.blog_post_manager.post.view.PostViewCounter;
 import jakarta.validation.Valid;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
 import java.security.Principal;
 import java.util.List;
 
+import static com.example.blog_post_manager.security.authentication.Authorities.isAdmin;
+
 @RestController
 @RequestMapping("posts")
 public class PostController {
+    // Clients may keep responses but must revalidate them, which conditional GETs make cheap.
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final PostService postService;
+    private final PostViewCounter postViewCounter;
+    private final PostResponseCache postResponseCache;
 
-    public PostController(PostService postService) {
+    public PostController(PostService postService, PostViewCounter postViewCounter, PostResponseCache postResponseCache) {
         this.postService = postService;
+        this.postViewCounter = postViewCounter;
+        this.postResponseCache = postResponseCache;
     }
 
     @GetMapping
-    public ResponseEntity<List<PostSummaryDTO>> getAll(Authentication auth) {
-        List<PostSummaryDTO> posts;
-        if (auth.getAuthorities().stream()
-                .anyMatch(grantedAuthority ->
-                        grantedAuthority.getAuthority().equals("ROLE_" + UserRole.ADMIN.name())
-                )) {
-            posts = postService.getAllPostSummaryAdmin();
+    public ResponseEntity<PostSummaryPageDTO> getAll(@RequestParam(required = false) String cursor,
+                                                     @RequestParam(defaultValue = "" + PostService.DEFAULT_PAGE_SIZE) int limit,
+                                                     Authentication auth,
+                                                     WebRequest request) {
+        PostSummaryPageDTO posts;
+        if (isAdmin(auth)) {
+            posts = postService.getAllPostSummaryAdmin(cursor, limit);
         } else {
-            posts = postService.getAllPostSummary(auth.getName());
+            posts = postService.getAllPostSummary(auth.getName(), cursor, limit);
         }
+        final String etag = PostETags.forPage(posts);
+        if (request.checkNotModified(etag)) return null;
+        return ResponseEntity.ok()
+                .cacheControl(REVALIDATE)
+                .eTag(etag)
+                .body(posts);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<PostSummaryDTO>> search(@RequestParam String q,
+                                                       @RequestParam(defaultValue = "" + PostService.DEFAULT_PAGE_SIZE) int limit,
+                                                       Authentication auth) {
+        final List<PostSummaryDTO> posts = isAdmin(auth)
+                ? postService.searchPostsAdmin(q, limit)
+                : postService.searchPosts(auth.getName(), q, limit);
         return ResponseEntity.ok(posts);
     }
 
-    @GetMapping("/{id}")
-    public ResponseEntity<PostDTO> getPostById(@PathVariable Long id, Principal p) {
-        final PostDTO post = postService.getPost(id, p.getName());
-        return ResponseEntity.ok(post);
+    // The body is written as pre-serialized bytes, gzipped ahead of time when the client accepts it.
+    @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getPostById(@PathVariable Long id, Authentication auth, WebRequest request) {
+        final boolean admin = isAdmin(auth);
+        final PostVersionDTO version = admin
+                ? postService.getPostVersionAdmin(id)
+                : postService.getPostVersion(id, auth.getName());
+        final String etag = PostETags.forPost(version);
+        // Revalidations are polling, not reading, so only a response that carries the body counts as a view.
+        if (request.checkNotModified(etag)) return null;
+
+        postViewCounter.record(id);
+        final PostDTO post = admin ? postService.getPostAdmin(id) : postService.getPost(id, auth.getName());
+        final PostResponseCache.Body body = postResponseCache.render(id, version.updatedAt(), post,
+                PostResponseCache.acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING)));
+        final ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(REVALIDATE)
+                .eTag(etag)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (body.gzipped()) response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        return response.body(body.bytes());
     }
 
     @PostMapping
@@ -49,14 +96,20 @@ public class PostController {
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<PostDTO> updatePost(@Valid @RequestBody UpdatePostDTO updatePostDTO, @PathVariable Long id, Principal p) {
-        final PostDTO updatedPost = postService.updatePost(id, updatePostDTO.title(), updatePostDTO.content(), p.getName());
+    public ResponseEntity<PostDTO> updatePost(@Valid @RequestBody UpdatePostDTO updatePostDTO, @PathVariable Long id, Authentication auth) {
+        final PostDTO updatedPost = isAdmin(auth)
+                ? postService.updatePostAdmin(id, updatePostDTO.title(), updatePostDTO.content())
+                : postService.updatePost(id, updatePostDTO.title(), updatePostDTO.content(), auth.getName());
         return ResponseEntity.ok(updatedPost);
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<String> deletePost(@PathVariable Long id, Principal p) {
-        postService.deletePost(id, p.getName());
+    public ResponseEntity<String> deletePost(@PathVariable Long id, Authentication auth) {
+        if (isAdmin(auth)) {
+            postService.deletePostAdmin(id);
+        } else {
+            postService.deletePost(id, auth.getName());
+        }
         return ResponseEntity.noContent().build();
     }
 }
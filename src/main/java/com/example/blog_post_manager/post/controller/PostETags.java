@@ -0,0 +1,41 @@
+package com.example.blog_post_manager.post.controller;
+
+import com.example.blog_post_manager.post.dto.PostSummaryDTO;
+import com.example.blog_post_manager.post.dto.PostSummaryPageDTO;
+import com.example.blog_post_manager.post.dto.PostVersionDTO;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Validators for conditional GETs. A post's body changes with its updatedAt or its flushed view count, so both
+ * go into its ETag; it is weak because the bytes also depend on content negotiation. Posts carry no Last-Modified:
+ * updatedAt does not move with views, and a 304 on If-Modified-Since would keep serving a stale count. A listing
+ * page is identified by the fields it renders.
+ */
+final class PostETags {
+
+    private PostETags() {
+    }
+
+    static String forPost(PostVersionDTO version) {
+        LocalDateTime t = version.updatedAt();
+        return "W/\"" + version.id() + "-" + Long.toHexString(t.toEpochSecond(ZoneOffset.UTC)) + "." + Integer.toHexString(t.getNano())
+                + "-" + Long.toHexString(version.views()) + "\"";
+    }
+
+    static String forPage(PostSummaryPageDTO page) {
+        StringBuilder sb = new StringBuilder();
+        for (PostSummaryDTO p : page.items()) {
+            sb.append(p.id()).append('\0')
+                    .append(p.title()).append('\0')
+                    .append(p.author()).append('\0')
+                    .append(p.createdAt()).append('\0')
+                    .append(p.views()).append('\n');
+        }
+        sb.append(page.next());
+        return "\"" + DigestUtils.md5DigestAsHex(sb.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
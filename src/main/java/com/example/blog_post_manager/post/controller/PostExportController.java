@@ -0,0 +1,46 @@
+package com.example.blog_post_manager.post.controller;
+
+import com.example.blog_post_manager.post.service.PostExportService;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@RequestMapping("posts/export")
+public class PostExportController {
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final MediaType GZIP = MediaType.parseMediaType("application/gzip");
+
+    private final PostExportService postExportService;
+
+    public PostExportController(PostExportService postExportService) {
+        this.postExportService = postExportService;
+    }
+
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> exportPosts(@RequestParam(defaultValue = "false") boolean content,
+                                                             @RequestParam(defaultValue = "false") boolean gzip) {
+        StreamingResponseBody body = gzip
+                ? out -> {
+                    // Sync flushing lets compressed bytes reach the client as each batch is written.
+                    try (GZIPOutputStream compressed = new GZIPOutputStream(out, true)) {
+                        postExportService.export(compressed, content);
+                    }
+                }
+                : out -> postExportService.export(out, content);
+        return ResponseEntity.ok()
+                .contentType(gzip ? GZIP : NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(gzip ? "posts.ndjson.gz" : "posts.ndjson")
+                        .build().toString())
+                .body(body);
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.blog_post_manager.post.controller;
+
+import com.example.blog_post_manager.post.service.PostImportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+@RestController
+@RequestMapping("posts/import")
+public class PostImportController {
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final PostImportService postImportService;
+    private final ObjectMapper objectMapper;
+
+    public PostImportController(PostImportService postImportService, ObjectMapper objectMapper) {
+        this.postImportService = postImportService;
+        this.objectMapper = objectMapper;
+    }
+
+    // The response is one line per committed chunk followed by a line with the totals. A response without
+    // the totals line means the import stopped early; the chunks reported before that stay committed.
+    @PostMapping(consumes = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> importPosts(InputStream body) {
+        StreamingResponseBody progress = out -> writeLine(out,
+                postImportService.importPosts(body, chunk -> writeLine(out, chunk)));
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .body(progress);
+    }
+
+    private void writeLine(OutputStream out, Object value) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(value));
+            out.write('\n');
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
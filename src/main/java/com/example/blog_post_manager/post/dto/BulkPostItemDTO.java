@@ -0,0 +1,16 @@
+package com.example.blog_post_manager.post.dto;
+
+public record BulkPostItemDTO(Long id, Status status) {
+    public enum Status {
+        DELETED,
+        REASSIGNED,
+        NOT_FOUND,
+        FORBIDDEN,
+        // The chunk containing the post was rolled back.
+        FAILED
+    }
+
+    public boolean succeeded() {
+        return status == Status.DELETED || status == Status.REASSIGNED;
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.blog_post_manager.post.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk operation. The counts cover every selected post; results lists at most
+ * app.post.bulk.max-results of them, and truncated tells whether some were left out.
+ */
+public record BulkPostResultDTO(long succeeded, long failed, List<BulkPostItemDTO> results, boolean truncated) {
+}
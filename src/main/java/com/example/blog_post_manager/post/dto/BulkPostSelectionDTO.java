@@ -0,0 +1,31 @@
+package com.example.blog_post_manager.post.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Which posts a bulk operation applies to: either an explicit id list, or every post matching the given author
+ * and/or createdAt range (from inclusive, to exclusive).
+ */
+public record BulkPostSelectionDTO(
+        @Size(max = 10_000, message = "At most 10000 ids can be given per request")
+        List<Long> ids,
+        String author,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo
+) {
+    @JsonIgnore
+    @AssertTrue(message = "Select posts either by ids or by author and/or createdAt range")
+    public boolean isSelectionValid() {
+        boolean byFilter = author != null || createdFrom != null || createdTo != null;
+        return byIds() != byFilter;
+    }
+
+    public boolean byIds() {
+        return ids != null && !ids.isEmpty();
+    }
+}
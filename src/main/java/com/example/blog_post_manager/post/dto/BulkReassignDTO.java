@@ -0,0 +1,15 @@
+package com.example.blog_post_manager.post.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+public record BulkReassignDTO(
+        @NotNull(message = "Posts must be selected!")
+        @Valid
+        BulkPostSelectionDTO posts,
+
+        @NotBlank(message = "New author cannot be empty!")
+        String to
+) {
+}
@@ -0,0 +1,26 @@
+package com.example.blog_post_manager.post.dto;
+
+import com.example.blog_post_manager.post.content.PostContent;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+
+public record ExportPostDTO(
+        Long id,
+        String title,
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        String content,
+        String author,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+    // JPQL projection constructors: with the stored content value, and without content at all.
+    public ExportPostDTO(Long id, String title, PostContent content, String author, LocalDateTime createdAt,
+                         LocalDateTime updatedAt) {
+        this(id, title, content == null ? null : content.text(), author, createdAt, updatedAt);
+    }
+
+    public ExportPostDTO(Long id, String title, String author, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, title, (String) null, author, createdAt, updatedAt);
+    }
+}
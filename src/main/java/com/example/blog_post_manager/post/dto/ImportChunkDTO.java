@@ -0,0 +1,6 @@
+package com.example.blog_post_manager.post.dto;
+
+import java.util.List;
+
+public record ImportChunkDTO(int chunk, long firstLine, long lastLine, int imported, List<ImportErrorDTO> errors) {
+}
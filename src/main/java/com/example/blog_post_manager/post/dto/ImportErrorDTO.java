@@ -0,0 +1,4 @@
+package com.example.blog_post_manager.post.dto;
+
+public record ImportErrorDTO(long line, String message) {
+}
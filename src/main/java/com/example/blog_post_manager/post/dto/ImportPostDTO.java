@@ -0,0 +1,23 @@
+package com.example.blog_post_manager.post.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+
+public record ImportPostDTO(
+        @NotBlank(message = "Title cannot be empty!")
+        @Size(min = 3, max = 255, message = "Title must be between 3 and 255 characters")
+        String title,
+
+        @NotBlank(message = "Content cannot be empty!")
+        @Size(min = 3, message = "Content must be atleast 3 characters long!")
+        String content,
+
+        @NotBlank(message = "Author cannot be empty!")
+        String author,
+
+        // Optional; defaults to the time of the import.
+        LocalDateTime createdAt
+) {
+}
@@ -6,6 +6,10 @@ public record PostDTO(
         String title,
         String content,
         String author,
-        LocalDateTime createdAt
+        LocalDateTime createdAt,
+        long views
 ) {
+    public PostDTO withViews(long views) {
+        return new PostDTO(title, content, author, createdAt, views);
+    }
 }
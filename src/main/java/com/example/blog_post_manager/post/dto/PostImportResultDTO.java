@@ -0,0 +1,5 @@
+package com.example.blog_post_manager.post.dto;
+
+// Totals written after the per-chunk progress lines of an import.
+public record PostImportResultDTO(long imported, long failed, int chunks) {
+}
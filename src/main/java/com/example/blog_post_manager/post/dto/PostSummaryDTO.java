@@ -3,8 +3,13 @@ package com.example.blog_post_manager.post.dto;
 import java.time.LocalDateTime;
 
 public record PostSummaryDTO(
+        Long id,
         String title,
         String author,
-        LocalDateTime createdAt
+        LocalDateTime createdAt,
+        long views
 ) {
+    public PostSummaryDTO withViews(long views) {
+        return new PostSummaryDTO(id, title, author, createdAt, views);
+    }
 }
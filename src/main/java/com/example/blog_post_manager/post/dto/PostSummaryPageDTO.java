@@ -0,0 +1,9 @@
+package com.example.blog_post_manager.post.dto;
+
+import java.util.List;
+
+public record PostSummaryPageDTO(
+        List<PostSummaryDTO> items,
+        String next
+) {
+}
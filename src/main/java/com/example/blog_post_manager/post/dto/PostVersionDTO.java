@@ -0,0 +1,11 @@
+package com.example.blog_post_manager.post.dto;
+
+import java.time.LocalDateTime;
+
+public record PostVersionDTO(
+        Long id,
+        String author,
+        LocalDateTime updatedAt,
+        long views
+) {
+}
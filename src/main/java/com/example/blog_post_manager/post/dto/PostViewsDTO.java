@@ -0,0 +1,7 @@
+package com.example.blog_post_manager.post.dto;
+
+public record PostViewsDTO(
+        Long id,
+        long views
+) {
+}
@@ -0,0 +1,7 @@
+package com.example.blog_post_manager.post.event;
+
+/**
+ * Published when a post is deleted.
+ */
+public record PostDeletedEvent(Long id) {
+}
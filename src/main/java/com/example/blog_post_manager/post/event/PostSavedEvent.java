@@ -0,0 +1,9 @@
+package com.example.blog_post_manager.post.event;
+
+import com.example.blog_post_manager.post.search.IndexedPost;
+
+/**
+ * Published when a post is created or its title or content changes.
+ */
+public record PostSavedEvent(IndexedPost post) {
+}
@@ -0,0 +1,7 @@
+package com.example.blog_post_manager.post.exception;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String cursor) {
+        super("Invalid cursor: " + cursor);
+    }
+}
@@ -8,12 +8,18 @@ import com.example.blog_post_manager.post.model.Post;
 public class PostMapper {
     public static PostSummaryDTO toPostSummaryDto(Post p) {
         if (p == null) return null;
-        return new PostSummaryDTO(p.getTitle(), p.getAuthor().getUsername(), p.getCreatedAt());
+        return new PostSummaryDTO(p.getId(), p.getTitle(), p.getAuthor().getUsername(), p.getCreatedAt(), p.getViews());
     }
 
     public static PostDTO toPostDto(Post p) {
         if (p == null) return null;
-        return new PostDTO(p.getTitle(), p.getContent(), p.getAuthor().getUsername(),p.getCreatedAt());
+        return new PostDTO(p.getTitle(), p.getContent(), p.getAuthor().getUsername(),p.getCreatedAt(), p.getViews());
+    }
+
+    // For posts whose body was just written without being loaded.
+    public static PostDTO toPostDto(Post p, String content) {
+        if (p == null) return null;
+        return new PostDTO(p.getTitle(), content, p.getAuthor().getUsername(), p.getCreatedAt(), p.getViews());
     }
 
     public static CreatePostResponseDTO toCreatePostResponseDTO(Post p) {
@@ -2,6 +2,7 @@ package com.example.blog_post_manager.post.model;
 
 import com.example.blog_post_manager.user.model.User;
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -9,6 +10,10 @@ import java.time.LocalDateTime;
 import java.util.Objects;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_post_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_post_author_created_at_id", columnList = "author_id, created_at, id")
+})
 public class Post {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -16,13 +21,19 @@ public class Post {
 
     private String title;
 
-    @Lob
-    private String content;
+    // The body lives in its own table so ownership checks and metadata updates only read this narrow row.
+    @OneToOne(mappedBy = "post", fetch = FetchType.LAZY, optional = false, cascade = CascadeType.PERSIST)
+    private PostBody body;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "author_id", nullable = false)
     private User author;
 
+    // Only ever incremented in bulk by PostViewCounter; never part of the post's version.
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private long views;
+
     @CreationTimestamp
     private LocalDateTime createdAt;
 
@@ -38,16 +49,18 @@ public class Post {
 
     public Post(String title, String content, User author) {
         this.title = title;
-        this.content = content;
+        this.body = new PostBody(this, content);
         this.author = author;
     }
 
     public String getContent() {
-        return content;
+        return body == null ? null : body.getContent();
     }
 
-    public void setContent(String content) {
-        this.content = content;
+    // Bodies are rewritten in place without loading them (PostBodyRepository.updateContent), which leaves this
+    // row clean; updatedAt is the post's version, so it is moved explicitly.
+    public void markUpdated() {
+        this.updatedAt = LocalDateTime.now();
     }
 
     public Long getId() {
@@ -62,6 +75,10 @@ public class Post {
         this.title = title;
     }
 
+    public long getViews() {
+        return views;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -0,0 +1,40 @@
+package com.example.blog_post_manager.post.model;
+
+import com.example.blog_post_manager.post.content.PostContent;
+import com.example.blog_post_manager.post.content.PostContentConverter;
+import jakarta.persistence.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+@Entity
+@Table(name = "post_body")
+public class PostBody {
+    @Id
+    private Long id;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "post_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Post post;
+
+    @Lob
+    @Convert(converter = PostContentConverter.class)
+    private PostContent content;
+
+    protected PostBody() {
+    }
+
+    PostBody(Post post, String content) {
+        this.post = post;
+        this.content = PostContent.of(content);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getContent() {
+        return content == null ? null : content.text();
+    }
+}
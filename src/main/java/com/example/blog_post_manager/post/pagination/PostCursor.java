@@ -0,0 +1,33 @@
+package com.example.blog_post_manager.post.pagination;
+
+import com.example.blog_post_manager.post.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in the (createdAt, id) ordering of posts. Clients only ever see the encoded form,
+ * so the layout can change without breaking them.
+ */
+public record PostCursor(LocalDateTime createdAt, Long id) {
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PostCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int i = raw.lastIndexOf(SEPARATOR);
+            if (i < 0) throw new InvalidCursorException(cursor);
+            return new PostCursor(LocalDateTime.parse(raw.substring(0, i)), Long.parseLong(raw.substring(i + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+}
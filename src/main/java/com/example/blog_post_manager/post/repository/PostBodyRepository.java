@@ -0,0 +1,18 @@
+package com.example.blog_post_manager.post.repository;
+
+import com.example.blog_post_manager.post.content.PostContent;
+import com.example.blog_post_manager.post.model.PostBody;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PostBodyRepository extends JpaRepository<PostBody, Long> {
+
+    // Replaces a body without reading the old one first.
+    @Modifying
+    @Query("update PostBody b set b.content = :content where b.id = :id")
+    int updateContent(@Param("id") Long id, @Param("content") PostContent content);
+}
@@ -1,13 +1,133 @@
 package com.example.blog_post_manager.post.repository;
 
+import com.example.blog_post_manager.post.dto.PostSummaryDTO;
+import com.example.blog_post_manager.post.dto.PostVersionDTO;
+import com.example.blog_post_manager.post.dto.PostViewsDTO;
 import com.example.blog_post_manager.post.model.Post;
+import com.example.blog_post_manager.post.search.IndexedPost;
 import com.example.blog_post_manager.user.model.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
-    List<Post> findByAuthor(User author);
+
+    // Reads only the post row and its author, which is all ownership checks and metadata updates need.
+    @EntityGraph(attributePaths = "author")
+    Optional<Post> findWithAuthorById(Long id);
+
+    // Owner-scoped variant for non-admins: the ownership check is part of the lookup.
+    @EntityGraph(attributePaths = "author")
+    Optional<Post> findWithAuthorByIdAndAuthorUsername(Long id, String username);
+
+    @EntityGraph(attributePaths = {"author", "body"})
+    Optional<Post> findWithAuthorAndBodyById(Long id);
+
+    // Deletes without loading the post first; post_body rows go with it through ON DELETE CASCADE.
+    @Modifying
+    @Query("delete from Post p where p.id = :id")
+    int deletePostById(@Param("id") Long id);
+
+    @Modifying
+    @Query("delete from Post p where p.id = :id and p.author.id = (select u.id from User u where u.username = :username)")
+    int deleteByIdAndAuthorUsername(@Param("id") Long id, @Param("username") String username);
+
+    // Keyset pagination on (createdAt, id), newest first. Served by idx_post_created_at_id /
+    // idx_post_author_created_at_id, so every page is an index range scan regardless of depth.
+    // Summaries are projected straight into the DTO so the content column is never read.
+
+    @Query("""
+            select new com.example.blog_post_manager.post.dto.PostSummaryDTO(p.id, p.title, a.username, p.createdAt, p.views)
+            from Post p join p.author a
+            order by p.createdAt desc, p.id desc""")
+    List<PostSummaryDTO> findFirstPage(Pageable pageable);
+
+    @Query("""
+            select new com.example.blog_post_manager.post.dto.PostSummaryDTO(p.id, p.title, a.username, p.createdAt, p.views)
+            from Post p join p.author a
+            where p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id)
+            order by p.createdAt desc, p.id desc""")
+    List<PostSummaryDTO> findPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query("""
+            select new com.example.blog_post_manager.post.dto.PostSummaryDTO(p.id, p.title, a.username, p.createdAt, p.views)
+            from Post p join p.author a
+            where p.author = :author
+            order by p.createdAt desc, p.id desc""")
+    List<PostSummaryDTO> findFirstPageByAuthor(@Param("author") User author, Pageable pageable);
+
+    @Query("""
+            select new com.example.blog_post_manager.post.dto.PostSummaryDTO(p.id, p.title, a.username, p.createdAt, p.views)
+            from Post p join p.author a
+            where p.author = :author
+              and (p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id))
+            order by p.createdAt desc, p.id desc""")
+    List<PostSummaryDTO> findPageByAuthorAfter(@Param("author") User author, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    // Bulk operations (PostBulkService) read the owners of a chunk of ids, then run one set-based statement per
+    // chunk that repeats the ownership check in its own predicate. A null owner means the caller is an admin.
+
+    @Query("""
+            select new com.example.blog_post_manager.post.dto.PostVersionDTO(p.id, a.username, p.updatedAt, p.views)
+            from Post p join p.author a
+            where p.id in :ids""")
+    List<PostVersionDTO> findVersionsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+            select p.id from Post p join p.author a
+            where p.id > :after
+              and (:owner is null or a.username = :owner)
+              and (:author is null or a.username = :author)
+              and (:from is null or p.createdAt >= :from)
+              and (:to is null or p.createdAt < :to)
+            order by p.id""")
+    List<Long> findIdsMatching(@Param("owner") String owner, @Param("author") String author,
+                               @Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                               @Param("after") long after, Pageable pageable);
+
+    @Modifying
+    @Query("""
+            delete from Post p
+            where p.id in :ids
+              and (:owner is null or p.author.id = (select u.id from User u where u.username = :owner))""")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids, @Param("owner") String owner);
+
+    @Modifying
+    @Query("""
+            update Post p set p.author = :to, p.updatedAt = :now
+            where p.id in :ids""")
+    int reassignByIdIn(@Param("ids") Collection<Long> ids, @Param("to") User to, @Param("now") LocalDateTime now);
+
+    @Query("select new com.example.blog_post_manager.post.dto.PostViewsDTO(p.id, p.views) from Post p where p.id in :ids")
+    List<PostViewsDTO> findViewsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Search index rebuild: id ranges let several threads read disjoint slices of the table in parallel.
+
+    @Query("select coalesce(max(p.id), 0) from Post p")
+    long findMaxId();
+
+    @Query("select max(p.updatedAt) from Post p")
+    LocalDateTime findMaxUpdatedAt();
+
+    @Query("""
+            select new com.example.blog_post_manager.post.search.IndexedPost(p.id, p.title, b.content, a.username, p.createdAt, p.updatedAt)
+            from Post p join p.author a join p.body b
+            where p.id between :first and :last""")
+    List<IndexedPost> findIndexedPostsByIdBetween(@Param("first") long first, @Param("last") long last);
+
+    @Query("""
+            select new com.example.blog_post_manager.post.search.IndexedPost(p.id, p.title, b.content, a.username, p.createdAt, p.updatedAt)
+            from Post p join p.author a join p.body b
+            where p.id in :ids""")
+    List<IndexedPost> findIndexedPostsByIdIn(@Param("ids") Collection<Long> ids);
 }
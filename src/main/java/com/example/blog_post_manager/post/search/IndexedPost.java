@@ -0,0 +1,14 @@
+package com.example.blog_post_manager.post.search;
+
+import com.example.blog_post_manager.post.content.PostContent;
+
+import java.time.LocalDateTime;
+
+public record IndexedPost(Long id, String title, String content, String author, LocalDateTime createdAt,
+                          LocalDateTime updatedAt) {
+    // Used by JPQL projections, which select the stored content value.
+    public IndexedPost(Long id, String title, PostContent content, String author, LocalDateTime createdAt,
+                       LocalDateTime updatedAt) {
+        this(id, title, content == null ? null : content.text(), author, createdAt, updatedAt);
+    }
+}
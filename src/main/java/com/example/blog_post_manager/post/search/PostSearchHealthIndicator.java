@@ -0,0 +1,27 @@
+package com.example.blog_post_manager.post.search;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Out of service while the search index is rebuilt, so the readiness group keeps traffic away from an instance
+ * whose searches would miss posts. Down if the rebuild failed.
+ */
+@Component
+public class PostSearchHealthIndicator implements HealthIndicator {
+    private final PostSearchIndex postSearchIndex;
+
+    public PostSearchHealthIndicator(PostSearchIndex postSearchIndex) {
+        this.postSearchIndex = postSearchIndex;
+    }
+
+    @Override
+    public Health health() {
+        return switch (postSearchIndex.status()) {
+            case READY -> Health.up().build();
+            case REBUILDING -> Health.outOfService().withDetail("index", "rebuilding").build();
+            case FAILED -> Health.down().withDetail("index", "rebuild failed").build();
+        };
+    }
+}
@@ -0,0 +1,324 @@
+package com.example.blog_post_manager.post.search;
+
+import com.example.blog_post_manager.post.dto.PostSummaryDTO;
+import com.example.blog_post_manager.post.event.PostDeletedEvent;
+import com.example.blog_post_manager.post.event.PostSavedEvent;
+import com.example.blog_post_manager.post.repository.PostRepository;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Lucene index over post titles and content. It is kept up to date from post events after commit, and
+ * rebuilt from the database in the background at startup when it no longer matches the posts table.
+ * Searches during a rebuild see a partial index; {@link #status()} reports it so readiness can wait.
+ */
+@Component
+public class PostSearchIndex implements SmartInitializingSingleton, DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(PostSearchIndex.class);
+
+    static final String ID = "id";
+    static final String TITLE = "title";
+    static final String CONTENT = "content";
+    static final String AUTHOR = "author";
+    static final String CREATED_AT = "createdAt";
+    // Commit user data: the newest post updatedAt the committed index is known to contain.
+    static final String POSTS_UPDATED_AT = "postsUpdatedAt";
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final PostRepository postRepository;
+    private final int rebuildThreads;
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final AtomicReference<LocalDateTime> indexedUpTo = new AtomicReference<>();
+    // Events hold the read lock, a rebuild takes the write lock to clear the index and start tracking. Posts an
+    // event touched after that are current in the index and skipped by the rebuild, which may have read them earlier.
+    private final ReadWriteLock rebuildLock = new ReentrantReadWriteLock();
+    private final ConcurrentMap<Long, Boolean> changedDuringRebuild = new ConcurrentHashMap<>();
+    private volatile boolean rebuilding;
+    private volatile Status status = Status.READY;
+    private volatile CompletableFuture<Void> startupRebuild = CompletableFuture.completedFuture(null);
+
+    public enum Status {
+        READY, REBUILDING, FAILED
+    }
+
+    public PostSearchIndex(PostRepository postRepository,
+                           @Value("${app.post.search.index-dir:data/post-index}") String indexDir,
+                           @Value("${app.post.search.rebuild-threads:0}") int rebuildThreads) {
+        this.postRepository = postRepository;
+        this.rebuildThreads = rebuildThreads > 0 ? rebuildThreads : Runtime.getRuntime().availableProcessors();
+        try {
+            // An empty directory setting keeps the index in memory, which is what the tests use.
+            this.directory = indexDir.isBlank() ? new ByteBuffersDirectory() : FSDirectory.open(Path.of(indexDir));
+            this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+            this.searcherManager = new SearcherManager(writer, null);
+            writer.getLiveCommitData().forEach(entry -> {
+                if (entry.getKey().equals(POSTS_UPDATED_AT)) indexedUpTo.set(LocalDateTime.parse(entry.getValue()));
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open post search index in " + indexDir, e);
+        }
+    }
+
+    // Only the two aggregate queries run during startup; a rebuild would hold it up for the whole table.
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (isInSync()) return;
+        status = Status.REBUILDING;
+        startupRebuild = CompletableFuture.runAsync(this::rebuild,
+                task -> Thread.ofVirtual().name("post-index-rebuild").start(task));
+        startupRebuild.whenComplete((ignored, e) -> {
+            if (e != null) log.error("Rebuilding the post search index failed, search results stay incomplete", e);
+        });
+    }
+
+    // Equal counts still miss updates that never reached a commit, such as renamed or reassigned posts. Every
+    // change moves updatedAt, so a post changed after the committed high-water mark means the index is behind.
+    private boolean isInSync() {
+        if (writer.getDocStats().numDocs != postRepository.count()) return false;
+        LocalDateTime latest = postRepository.findMaxUpdatedAt();
+        LocalDateTime upTo = indexedUpTo.get();
+        return latest == null || (upTo != null && !latest.isAfter(upTo));
+    }
+
+    public Status status() {
+        return status;
+    }
+
+    CompletableFuture<Void> startupRebuild() {
+        return startupRebuild;
+    }
+
+    public List<PostSummaryDTO> search(String text, String author, int limit) {
+        SimpleQueryParser parser = new SimpleQueryParser(analyzer, Map.of(TITLE, 2f, CONTENT, 1f));
+        parser.setDefaultOperator(BooleanClause.Occur.MUST);
+        Query textQuery = parser.parse(text);
+        if (textQuery == null) return List.of();
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder().add(textQuery, BooleanClause.Occur.MUST);
+        if (author != null) query.add(new TermQuery(new Term(AUTHOR, author)), BooleanClause.Occur.FILTER);
+
+        try {
+            searcherManager.maybeRefresh();
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                StoredFields storedFields = searcher.storedFields();
+                List<PostSummaryDTO> results = new ArrayList<>();
+                // View counts change too often to index; PostService fills them in from the database.
+                for (ScoreDoc hit : searcher.search(query.build(), limit).scoreDocs) {
+                    Document doc = storedFields.document(hit.doc);
+                    results.add(new PostSummaryDTO(Long.valueOf(doc.get(ID)), doc.get(TITLE), doc.get(AUTHOR),
+                            LocalDateTime.parse(doc.get(CREATED_AT)), 0));
+                }
+                return results;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostSaved(PostSavedEvent event) {
+        IndexedPost post = event.post();
+        apply(post.id(), () -> writer.updateDocument(idTerm(post.id()), toDocument(post)));
+        if (post.updatedAt() != null) indexedUpTo.accumulateAndGet(post.updatedAt(), PostSearchIndex::later);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostDeleted(PostDeletedEvent event) {
+        apply(event.id(), () -> writer.deleteDocuments(idTerm(event.id())));
+    }
+
+    // Searches see changes on the next refresh; committing only makes them survive a restart, so it is batched.
+    // A rebuild commits once it is complete, so a partial index is never recorded as up to date.
+    @Scheduled(fixedDelayString = "${app.post.search.commit-interval-ms:5000}")
+    public void commit() throws IOException {
+        if (!rebuilding && writer.hasUncommittedChanges()) commitUpTo();
+    }
+
+    public void rebuild() {
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newFixedThreadPool(rebuildThreads)) {
+            // Read before any row, so posts changed while the rebuild runs are newer and arrive as events.
+            LocalDateTime latest = postRepository.findMaxUpdatedAt();
+            long maxId = postRepository.findMaxId();
+            startRebuild(latest);
+            List<Future<?>> batches = new ArrayList<>();
+            for (long from = 1; from <= maxId; from += REBUILD_BATCH_SIZE) {
+                long first = from;
+                long last = Math.min(from + REBUILD_BATCH_SIZE - 1, maxId);
+                batches.add(executor.submit(() -> {
+                    for (IndexedPost post : postRepository.findIndexedPostsByIdBetween(first, last)) {
+                        changedDuringRebuild.compute(post.id(), (id, changed) -> {
+                            if (changed == null) write(() -> writer.addDocument(toDocument(post)));
+                            return changed;
+                        });
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> batch : batches) batch.get();
+            finishRebuild();
+            searcherManager.maybeRefreshBlocking();
+            status = Status.READY;
+        } catch (IOException e) {
+            throw failed(new UncheckedIOException("Rebuilding the post search index failed", e));
+        } catch (ExecutionException e) {
+            throw failed(new IllegalStateException("Rebuilding the post search index failed", e.getCause()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw failed(new IllegalStateException("Rebuilding the post search index was interrupted", e));
+        } catch (RuntimeException e) {
+            throw failed(e);
+        }
+        log.info("Rebuilt post search index with {} posts in {} ms using {} threads",
+                writer.getDocStats().numDocs, (System.nanoTime() - start) / 1_000_000, rebuildThreads);
+    }
+
+    private void startRebuild(LocalDateTime latest) throws IOException {
+        rebuildLock.writeLock().lock();
+        try {
+            status = Status.REBUILDING;
+            rebuilding = true;
+            changedDuringRebuild.clear();
+            indexedUpTo.set(latest);
+            writer.deleteAll();
+        } finally {
+            rebuildLock.writeLock().unlock();
+        }
+    }
+
+    private void finishRebuild() throws IOException {
+        rebuildLock.writeLock().lock();
+        try {
+            commitUpTo();
+            rebuilding = false;
+            changedDuringRebuild.clear();
+        } finally {
+            rebuildLock.writeLock().unlock();
+        }
+    }
+
+    private RuntimeException failed(RuntimeException e) {
+        rebuildLock.writeLock().lock();
+        try {
+            rebuilding = false;
+            changedDuringRebuild.clear();
+            status = Status.FAILED;
+        } finally {
+            rebuildLock.writeLock().unlock();
+        }
+        return e;
+    }
+
+    private void apply(Long id, IndexWrite change) {
+        rebuildLock.readLock().lock();
+        try {
+            if (rebuilding) {
+                changedDuringRebuild.compute(id, (key, changed) -> {
+                    write(change);
+                    return Boolean.TRUE;
+                });
+            } else {
+                write(change);
+            }
+        } finally {
+            rebuildLock.readLock().unlock();
+        }
+    }
+
+    private void commitUpTo() throws IOException {
+        LocalDateTime upTo = indexedUpTo.get();
+        if (upTo != null) writer.setLiveCommitData(Map.of(POSTS_UPDATED_AT, upTo.toString()).entrySet());
+        writer.commit();
+    }
+
+    private static void write(IndexWrite write) {
+        try {
+            write.run();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static LocalDateTime later(LocalDateTime a, LocalDateTime b) {
+        return a == null || b.isAfter(a) ? b : a;
+    }
+
+    @FunctionalInterface
+    private interface IndexWrite {
+        void run() throws IOException;
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    private static Term idTerm(Long id) {
+        return new Term(ID, id.toString());
+    }
+
+    private static Document toDocument(IndexedPost post) {
+        Document doc = new Document();
+        doc.add(new StringField(ID, post.id().toString(), Field.Store.YES));
+        doc.add(new TextField(TITLE, post.title(), Field.Store.YES));
+        doc.add(new TextField(CONTENT, post.content(), Field.Store.NO));
+        doc.add(new StringField(AUTHOR, post.author(), Field.Store.YES));
+        doc.add(new StoredField(CREATED_AT, post.createdAt().toString()));
+        return doc;
+    }
+}
@@ -0,0 +1,229 @@
+package com.example.blog_post_manager.post.service;
+
+import com.example.blog_post_manager.post.cache.PostCache;
+import com.example.blog_post_manager.post.dto.BulkPostItemDTO;
+import com.example.blog_post_manager.post.dto.BulkPostItemDTO.Status;
+import com.example.blog_post_manager.post.dto.BulkPostResultDTO;
+import com.example.blog_post_manager.post.dto.BulkPostSelectionDTO;
+import com.example.blog_post_manager.post.dto.PostVersionDTO;
+import com.example.blog_post_manager.post.event.PostDeletedEvent;
+import com.example.blog_post_manager.post.event.PostSavedEvent;
+import com.example.blog_post_manager.post.exception.ResourceNotFoundException;
+import com.example.blog_post_manager.post.repository.PostRepository;
+import com.example.blog_post_manager.user.model.User;
+import com.example.blog_post_manager.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Deletes or reassigns many posts at once. Posts are processed in chunks, each in its own transaction. A chunk
+ * costs one query for the current owners and one set-based statement that repeats the ownership check in its
+ * predicate. Methods without the Admin suffix only touch the caller's own posts. Reassigning is admin-only, since
+ * it puts content into another account.
+ */
+@Service
+public class PostBulkService {
+    private final PostRepository postRepository;
+    private final UserRepository userRepository;
+    private final PostCache postCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxResults;
+
+    public PostBulkService(PostRepository postRepository, UserRepository userRepository, PostCache postCache,
+                           ApplicationEventPublisher eventPublisher, PlatformTransactionManager transactionManager,
+                           @Value("${app.post.bulk.chunk-size:500}") int chunkSize,
+                           @Value("${app.post.bulk.max-results:1000}") int maxResults) {
+        this.postRepository = postRepository;
+        this.userRepository = userRepository;
+        this.postCache = postCache;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.maxResults = maxResults;
+    }
+
+    public BulkPostResultDTO deletePosts(BulkPostSelectionDTO selection, String username) {
+        return run(selection, username, new Delete(username));
+    }
+
+    public BulkPostResultDTO deletePostsAdmin(BulkPostSelectionDTO selection) {
+        return run(selection, null, new Delete(null));
+    }
+
+    public BulkPostResultDTO reassignPostsAdmin(BulkPostSelectionDTO selection, String to) {
+        return run(selection, null, new Reassign(findUser(to)));
+    }
+
+    private User findUser(String username) {
+        return userRepository.findByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("Cannot find user with username " + username));
+    }
+
+    private BulkPostResultDTO run(BulkPostSelectionDTO selection, String owner, Operation operation) {
+        Results results = new Results();
+        if (selection.byIds()) {
+            List<Long> ids = List.copyOf(new LinkedHashSet<>(selection.ids()));
+            for (int from = 0; from < ids.size(); from += chunkSize) {
+                results.addAll(applyInTransaction(ids.subList(from, Math.min(from + chunkSize, ids.size())), owner, operation));
+            }
+        } else {
+            // Keyset over the matching ids. The owner is part of the filter, so non-admins never see other posts.
+            List<Long> chunk;
+            long after = 0;
+            do {
+                chunk = postRepository.findIdsMatching(owner, selection.author(), selection.createdFrom(),
+                        selection.createdTo(), after, PageRequest.ofSize(chunkSize));
+                results.addAll(applyInTransaction(chunk, owner, operation));
+                if (!chunk.isEmpty()) after = chunk.getLast();
+            } while (chunk.size() == chunkSize);
+        }
+        return results.toDto();
+    }
+
+    // A filter can match the whole table, so only the first maxResults items are listed; the counts cover all of them.
+    private final class Results {
+        private final List<BulkPostItemDTO> items = new ArrayList<>();
+        private long succeeded;
+        private long failed;
+
+        void addAll(List<BulkPostItemDTO> chunk) {
+            for (BulkPostItemDTO item : chunk) {
+                if (item.succeeded()) succeeded++;
+                else failed++;
+                if (items.size() < maxResults) items.add(item);
+            }
+        }
+
+        BulkPostResultDTO toDto() {
+            return new BulkPostResultDTO(succeeded, failed, items, succeeded + failed > items.size());
+        }
+    }
+
+    // A chunk that fails is rolled back on its own and its posts are reported as FAILED; earlier chunks stay.
+    private List<BulkPostItemDTO> applyInTransaction(List<Long> chunk, String owner, Operation operation) {
+        if (chunk.isEmpty()) return List.of();
+        try {
+            return transactionTemplate.execute(status -> apply(chunk, owner, operation));
+        } catch (DataAccessException e) {
+            return chunk.stream().map(id -> new BulkPostItemDTO(id, Status.FAILED)).toList();
+        }
+    }
+
+    private List<BulkPostItemDTO> apply(List<Long> chunk, String owner, Operation operation) {
+        Map<Long, String> owners = owners(chunk);
+        List<Long> targets = chunk.stream()
+                .filter(id -> owners.containsKey(id) && (owner == null || owner.equals(owners.get(id))))
+                .toList();
+
+        List<Long> done = targets;
+        if (!targets.isEmpty() && operation.execute(targets) < targets.size()) {
+            // Something changed hands or disappeared between the two statements; ask which posts went through.
+            done = operation.confirm(targets);
+        }
+        operation.afterChunk(done);
+
+        Set<Long> succeeded = Set.copyOf(done);
+        return chunk.stream()
+                .map(id -> new BulkPostItemDTO(id, succeeded.contains(id) ? operation.success()
+                        : owners.containsKey(id) ? Status.FORBIDDEN : Status.NOT_FOUND))
+                .toList();
+    }
+
+    private Map<Long, String> owners(List<Long> ids) {
+        return postRepository.findVersionsByIdIn(ids).stream()
+                .collect(Collectors.toMap(PostVersionDTO::id, PostVersionDTO::author));
+    }
+
+    private interface Operation {
+        // Runs the set-based statement for the chunk and returns the number of rows it changed.
+        int execute(List<Long> ids);
+
+        // Which of the given ids the statement applied to, for the rare chunk where the counts do not add up.
+        List<Long> confirm(List<Long> ids);
+
+        void afterChunk(List<Long> ids);
+
+        Status success();
+    }
+
+    private final class Delete implements Operation {
+        private final String owner;
+
+        Delete(String owner) {
+            this.owner = owner;
+        }
+
+        @Override
+        public int execute(List<Long> ids) {
+            return postRepository.deleteByIdIn(ids, owner);
+        }
+
+        @Override
+        public List<Long> confirm(List<Long> ids) {
+            // A post that is still there was not ours to delete after all.
+            Map<Long, String> remaining = owners(ids);
+            return ids.stream().filter(id -> !remaining.containsKey(id)).toList();
+        }
+
+        @Override
+        public void afterChunk(List<Long> ids) {
+            for (Long id : ids) {
+                postCache.invalidateAfterCommit(id);
+                eventPublisher.publishEvent(new PostDeletedEvent(id));
+            }
+        }
+
+        @Override
+        public Status success() {
+            return Status.DELETED;
+        }
+    }
+
+    private final class Reassign implements Operation {
+        private final User to;
+
+        Reassign(User to) {
+            this.to = to;
+        }
+
+        @Override
+        public int execute(List<Long> ids) {
+            return postRepository.reassignByIdIn(ids, to, LocalDateTime.now());
+        }
+
+        @Override
+        public List<Long> confirm(List<Long> ids) {
+            Map<Long, String> owners = owners(ids);
+            return ids.stream().filter(id -> to.getUsername().equals(owners.get(id))).toList();
+        }
+
+        // The search index filters by author, so reassigned posts are indexed again.
+        @Override
+        public void afterChunk(List<Long> ids) {
+            if (ids.isEmpty()) return;
+            for (Long id : ids) postCache.invalidateAfterCommit(id);
+            postRepository.findIndexedPostsByIdIn(ids)
+                    .forEach(post -> eventPublisher.publishEvent(new PostSavedEvent(post)));
+        }
+
+        @Override
+        public Status success() {
+            return Status.REASSIGNED;
+        }
+    }
+}
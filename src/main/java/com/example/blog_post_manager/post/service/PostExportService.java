@@ -0,0 +1,91 @@
+package com.example.blog_post_manager.post.service;
+
+import com.example.blog_post_manager.post.dto.ExportPostDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Streams every post as newline-delimited JSON. Rows are read through a forward-only result stream with
+ * a fixed fetch size and projected straight into DTOs, so nothing accumulates in the persistence context
+ * and heap use does not depend on the size of the table.
+ */
+@Service
+public class PostExportService {
+    private static final String SELECT_WITH_CONTENT = """
+            select new com.example.blog_post_manager.post.dto.ExportPostDTO(p.id, p.title, b.content, a.username, p.createdAt, p.updatedAt)
+            from Post p join p.author a join p.body b
+            order by p.id""";
+    private static final String SELECT_WITHOUT_CONTENT = """
+            select new com.example.blog_post_manager.post.dto.ExportPostDTO(p.id, p.title, a.username, p.createdAt, p.updatedAt)
+            from Post p join p.author a
+            order by p.id""";
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter writer;
+    private final int fetchSize;
+    private final int jdbcFetchSize;
+
+    public PostExportService(EntityManager entityManager, EntityManagerFactory entityManagerFactory,
+                             PlatformTransactionManager transactionManager, ObjectMapper objectMapper,
+                             @Value("${app.post.export.fetch-size:500}") int fetchSize) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.writer = objectMapper.writerFor(ExportPostDTO.class);
+        this.fetchSize = fetchSize;
+        // Connector/J ignores a positive fetch size unless the whole pool runs with useCursorFetch, which would turn
+        // every query into a server-side prepared statement. Integer.MIN_VALUE asks it to stream rows for this one
+        // forward-only, read-only statement instead.
+        boolean mysql = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof MySQLDialect;
+        this.jdbcFetchSize = mysql ? Integer.MIN_VALUE : fetchSize;
+    }
+
+    public void export(OutputStream out, boolean includeContent) {
+        // The result stream needs its connection for as long as it is consumed, hence the explicit transaction.
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<ExportPostDTO> posts = entityManager
+                    .createQuery(includeContent ? SELECT_WITH_CONTENT : SELECT_WITHOUT_CONTENT, ExportPostDTO.class)
+                    .setHint(HibernateHints.HINT_FETCH_SIZE, jdbcFetchSize)
+                    .setHint(HibernateHints.HINT_READ_ONLY, true)
+                    .getResultStream();
+                 JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(new SerializedString("\n"));
+                long written = 0;
+                for (Iterator<ExportPostDTO> it = posts.iterator(); it.hasNext(); ) {
+                    writer.writeValue(generator, it.next());
+                    // Flush the first row right away so the client sees progress, then once per fetched batch.
+                    if (++written == 1 || written % fetchSize == 0) {
+                        generator.flush();
+                        out.flush();
+                    }
+                }
+                if (written > 0) generator.writeRaw('\n');
+                generator.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+}
@@ -0,0 +1,278 @@
+package com.example.blog_post_manager.post.service;
+
+import com.example.blog_post_manager.post.content.PostContentCodec;
+import com.example.blog_post_manager.post.dto.ImportChunkDTO;
+import com.example.blog_post_manager.post.dto.ImportErrorDTO;
+import com.example.blog_post_manager.post.dto.ImportPostDTO;
+import com.example.blog_post_manager.post.dto.PostImportResultDTO;
+import com.example.blog_post_manager.post.event.PostSavedEvent;
+import com.example.blog_post_manager.post.search.IndexedPost;
+import com.example.blog_post_manager.user.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Bulk import of posts from newline-delimited JSON. The body is read line by line, so memory use is
+ * bounded by the chunk size and the maximum line length, and each chunk is written as one JDBC batch in
+ * its own transaction. Each chunk is reported to the caller as soon as it has been written.
+ */
+@Service
+public class PostImportService {
+    private static final String INSERT_POST =
+            "insert into post (title, author_id, created_at, updated_at) values (?, ?, ?, ?)";
+    private static final String INSERT_BODY = "insert into post_body (post_id, content) values (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final UserRepository userRepository;
+    private final ObjectReader reader;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PostContentCodec contentCodec;
+    private final int chunkSize;
+    private final int maxLineBytes;
+
+    public PostImportService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                             UserRepository userRepository, ObjectMapper objectMapper, Validator validator,
+                             ApplicationEventPublisher eventPublisher, PostContentCodec contentCodec,
+                             @Value("${app.post.import.chunk-size:1000}") int chunkSize,
+                             @Value("${app.post.import.max-line-bytes:1048576}") int maxLineBytes) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.userRepository = userRepository;
+        this.reader = objectMapper.readerFor(ImportPostDTO.class);
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.contentCodec = contentCodec;
+        this.chunkSize = chunkSize;
+        this.maxLineBytes = maxLineBytes;
+    }
+
+    public PostImportResultDTO importPosts(InputStream ndjson, Consumer<ImportChunkDTO> progress) throws IOException {
+        // Authors are resolved once per import; unknown usernames are remembered as empty.
+        Map<String, Optional<Long>> authorIds = new HashMap<>();
+        List<Row> rows = new ArrayList<>(chunkSize);
+        List<ImportErrorDTO> errors = new ArrayList<>();
+        int chunks = 0;
+        long imported = 0;
+        long failed = 0;
+        long lineNumber = 0;
+        long firstLine = 1;
+
+        LineReader in = new LineReader(ndjson, maxLineBytes);
+        while (in.next()) {
+            lineNumber++;
+            if (!in.tooLong() && in.isBlank()) continue;
+
+            Row row = parse(in, lineNumber, authorIds, errors);
+            if (row != null) rows.add(row);
+            // Rejected lines count towards the chunk too, so neither list grows past the chunk size.
+            if (rows.size() + errors.size() == chunkSize) {
+                ImportChunkDTO chunk = writeChunk(++chunks, firstLine, lineNumber, rows, errors);
+                imported += chunk.imported();
+                failed += chunk.errors().size();
+                progress.accept(chunk);
+                rows = new ArrayList<>(chunkSize);
+                errors = new ArrayList<>();
+                firstLine = lineNumber + 1;
+            }
+        }
+        if (!rows.isEmpty() || !errors.isEmpty()) {
+            ImportChunkDTO chunk = writeChunk(++chunks, firstLine, lineNumber, rows, errors);
+            imported += chunk.imported();
+            failed += chunk.errors().size();
+            progress.accept(chunk);
+        }
+        return new PostImportResultDTO(imported, failed, chunks);
+    }
+
+    // Returns the row to insert, or null after recording why the line was rejected.
+    private Row parse(LineReader in, long lineNumber, Map<String, Optional<Long>> authorIds, List<ImportErrorDTO> errors)
+            throws IOException {
+        if (in.tooLong()) {
+            errors.add(new ImportErrorDTO(lineNumber, "Line is longer than " + maxLineBytes + " bytes"));
+            return null;
+        }
+        ImportPostDTO post;
+        try {
+            post = reader.readValue(in.bytes(), 0, in.length());
+        } catch (JsonProcessingException e) {
+            errors.add(new ImportErrorDTO(lineNumber, "Malformed JSON: " + e.getOriginalMessage()));
+            return null;
+        }
+        Optional<ConstraintViolation<ImportPostDTO>> violation = validator.validate(post).stream()
+                .min(Comparator.comparing(v -> v.getPropertyPath().toString()));
+        if (violation.isPresent()) {
+            errors.add(new ImportErrorDTO(lineNumber, violation.get().getMessage()));
+            return null;
+        }
+        Optional<Long> authorId = authorIds.computeIfAbsent(post.author(), userRepository::findIdByUsername);
+        if (authorId.isEmpty()) {
+            errors.add(new ImportErrorDTO(lineNumber, "Cannot find user with username " + post.author()));
+            return null;
+        }
+        return new Row(post, authorId.get());
+    }
+
+    private ImportChunkDTO writeChunk(int chunk, long firstLine, long lastLine, List<Row> rows, List<ImportErrorDTO> errors) {
+        if (rows.isEmpty()) return new ImportChunkDTO(chunk, firstLine, lastLine, 0, List.copyOf(errors));
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(rows));
+            return new ImportChunkDTO(chunk, firstLine, lastLine, rows.size(), List.copyOf(errors));
+        } catch (DataAccessException e) {
+            List<ImportErrorDTO> failed = new ArrayList<>(errors);
+            failed.add(new ImportErrorDTO(firstLine,
+                    "Chunk of " + rows.size() + " posts was rolled back: " + e.getMostSpecificCause().getMessage()));
+            return new ImportChunkDTO(chunk, firstLine, lastLine, 0, failed);
+        }
+    }
+
+    private void insert(List<Row> rows) {
+        LocalDateTime now = LocalDateTime.now();
+        GeneratedKeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(con -> con.prepareStatement(INSERT_POST, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Row row = rows.get(i);
+                        LocalDateTime createdAt = row.createdAt(now);
+                        ps.setString(1, row.post().title());
+                        ps.setLong(2, row.authorId());
+                        ps.setObject(3, createdAt);
+                        ps.setObject(4, createdAt);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return rows.size();
+                    }
+                }, keys);
+
+        // Key column names differ between drivers, so take each row's only generated value.
+        List<Map<String, Object>> keyList = keys.getKeyList();
+        long[] ids = keyList.stream().mapToLong(k -> ((Number) k.values().iterator().next()).longValue()).toArray();
+        jdbcTemplate.batchUpdate(INSERT_BODY, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setLong(1, ids[i]);
+                ps.setBytes(2, contentCodec.encode(rows.get(i).post().content()));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+
+        for (int i = 0; i < rows.size(); i++) {
+            Row row = rows.get(i);
+            LocalDateTime createdAt = row.createdAt(now);
+            eventPublisher.publishEvent(new PostSavedEvent(new IndexedPost(ids[i], row.post().title(),
+                    row.post().content(), row.post().author(), createdAt, createdAt)));
+        }
+    }
+
+    private record Row(ImportPostDTO post, long authorId) {
+        LocalDateTime createdAt(LocalDateTime now) {
+            return post.createdAt() != null ? post.createdAt() : now;
+        }
+    }
+
+    /**
+     * Splits the body on newlines into a reused buffer. A line longer than the limit is flagged and its
+     * remainder skipped up to the next newline, so a single oversized line is never held in memory.
+     */
+    private static final class LineReader {
+        private static final int INITIAL_LINE_BYTES = 8192;
+
+        private final InputStream in;
+        private final byte[] buffer = new byte[8192];
+        private final int maxLineBytes;
+        private byte[] line;
+        private int length;
+        private boolean tooLong;
+        private int position;
+        private int limit;
+
+        LineReader(InputStream in, int maxLineBytes) {
+            this.in = in;
+            this.maxLineBytes = maxLineBytes;
+            this.line = new byte[Math.min(INITIAL_LINE_BYTES, maxLineBytes)];
+        }
+
+        boolean next() throws IOException {
+            length = 0;
+            tooLong = false;
+            int b = read();
+            if (b == -1) return false;
+            while (b != -1 && b != '\n') {
+                if (length < maxLineBytes) {
+                    if (length == line.length) line = Arrays.copyOf(line, Math.min(line.length * 2, maxLineBytes));
+                    line[length++] = (byte) b;
+                } else {
+                    tooLong = true;
+                }
+                b = read();
+            }
+            if (length > 0 && line[length - 1] == '\r') length--;
+            return true;
+        }
+
+        byte[] bytes() {
+            return line;
+        }
+
+        int length() {
+            return length;
+        }
+
+        boolean tooLong() {
+            return tooLong;
+        }
+
+        boolean isBlank() {
+            for (int i = 0; i < length; i++) {
+                if (!Character.isWhitespace(line[i])) return false;
+            }
+            return true;
+        }
+
+        private int read() throws IOException {
+            if (position == limit) {
+                limit = in.read(buffer);
+                position = 0;
+                if (limit <= 0) {
+                    limit = 0;
+                    return -1;
+                }
+            }
+            return buffer[position++] & 0xff;
+        }
+    }
+}
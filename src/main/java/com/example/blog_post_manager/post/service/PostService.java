@@ -1,53 +1,135 @@
 package com.example.blog_post_manager.post.service;
 
+import com.example.blog_post_manager.datasource.PrimaryReads;
+import com.example.blog_post_manager.post.cache.CachedPost;
+import com.example.blog_post_manager.post.cache.PostCache;
+import com.example.blog_post_manager.post.content.PostContent;
 import com.example.blog_post_manager.post.dto.CreatePostResponseDTO;
 import com.example.blog_post_manager.post.dto.PostDTO;
 import com.example.blog_post_manager.post.dto.PostSummaryDTO;
+import com.example.blog_post_manager.post.dto.PostSummaryPageDTO;
+import com.example.blog_post_manager.post.dto.PostVersionDTO;
+import com.example.blog_post_manager.post.dto.PostViewsDTO;
+import com.example.blog_post_manager.post.event.PostDeletedEvent;
+import com.example.blog_post_manager.post.event.PostSavedEvent;
 import com.example.blog_post_manager.post.exception.ResourceNotFoundException;
 import com.example.blog_post_manager.post.mapper.PostMapper;
 import com.example.blog_post_manager.post.model.Post;
+import com.example.blog_post_manager.post.pagination.PostCursor;
+import com.example.blog_post_manager.post.repository.PostBodyRepository;
 import com.example.blog_post_manager.post.repository.PostRepository;
+import com.example.blog_post_manager.post.search.IndexedPost;
+import com.example.blog_post_manager.post.search.PostSearchIndex;
 import com.example.blog_post_manager.user.model.User;
-import com.example.blog_post_manager.user.model.UserRole;
 import com.example.blog_post_manager.user.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
+@Timed(value = "post.service", histogram = true)
 public class PostService {
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final PostRepository postRepository;
+    private final PostBodyRepository postBodyRepository;
     private final UserRepository userRepository;
+    private final PostCache postCache;
+    private final PostSearchIndex postSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate readOnlyTransaction;
 
-    public PostService(PostRepository postRepository, UserRepository userRepository) {
+    public PostService(PostRepository postRepository, PostBodyRepository postBodyRepository,
+                       UserRepository userRepository, PostCache postCache, PostSearchIndex postSearchIndex,
+                       ApplicationEventPublisher eventPublisher, PlatformTransactionManager transactionManager) {
         this.postRepository = postRepository;
+        this.postBodyRepository = postBodyRepository;
         this.userRepository = userRepository;
+        this.postCache = postCache;
+        this.postSearchIndex = postSearchIndex;
+        this.eventPublisher = eventPublisher;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
-    public List<PostSummaryDTO> getAllPostSummary(String username) {
+    public PostSummaryPageDTO getAllPostSummary(String username, String cursor, int limit) {
         User u = userRepository.findByUsername(username)
                 .orElseThrow(() -> new ResourceNotFoundException("Cannot find user with username " + username));
-        List<Post> posts = postRepository.findByAuthor(u);
-        return posts.stream().map(PostMapper::toPostSummaryDto).toList();
+        PostCursor after = PostCursor.decode(cursor);
+        int size = clampPageSize(limit);
+        PageRequest page = PageRequest.ofSize(size + 1);
+        List<PostSummaryDTO> posts = after == null
+                ? postRepository.findFirstPageByAuthor(u, page)
+                : postRepository.findPageByAuthorAfter(u, after.createdAt(), after.id(), page);
+        return toPage(posts, size);
     }
 
-    public List<PostSummaryDTO> getAllPostSummaryAdmin() {
-        List<Post> posts = postRepository.findAll();
-        return posts.stream().map(PostMapper::toPostSummaryDto).toList();
+    public PostSummaryPageDTO getAllPostSummaryAdmin(String cursor, int limit) {
+        PostCursor after = PostCursor.decode(cursor);
+        int size = clampPageSize(limit);
+        PageRequest page = PageRequest.ofSize(size + 1);
+        List<PostSummaryDTO> posts = after == null
+                ? postRepository.findFirstPage(page)
+                : postRepository.findPageAfter(after.createdAt(), after.id(), page);
+        return toPage(posts, size);
     }
 
-    public PostDTO getPost(Long id, String username) {
+    public List<PostSummaryDTO> searchPosts(String username, String query, int limit) {
         User u = userRepository.findByUsername(username)
                 .orElseThrow(() -> new ResourceNotFoundException("Cannot find user with username " + username));
-        Post p = postRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Cannot find post with id: " + id));
-        if (u.getAuthorities().stream().noneMatch(grantedAuthority -> grantedAuthority.getAuthority().equals("ROLE_" + UserRole.ADMIN))
-                && !p.getAuthor().getUsername().equals(u.getUsername()))
-            throw new AccessDeniedException("This post does not belong to this author!");
-        return PostMapper.toPostDto(p);
+        if (query == null || query.isBlank()) return List.of();
+        return withViews(postSearchIndex.search(query, u.getUsername(), clampPageSize(limit)));
+    }
+
+    public List<PostSummaryDTO> searchPostsAdmin(String query, int limit) {
+        if (query == null || query.isBlank()) return List.of();
+        return withViews(postSearchIndex.search(query, null, clampPageSize(limit)));
+    }
+
+    // The caller's roles come from the SecurityContext (see PostController), so reads and writes of a single
+    // post never load the user. Non-admin variants are scoped to the caller's own posts.
+    //
+    // Single-post reads do not start a transaction: beginning one already takes a pooled connection, which a
+    // cache hit does not need and a miss waiting on another request's load must not hold. Only the query itself
+    // runs in a read-only transaction.
+
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public PostDTO getPost(Long id, String username) {
+        CachedPost p = postCache.get(id, this::loadPost);
+        checkOwner(p.owner(), username);
+        return p.post().withViews(p.views());
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public PostDTO getPostAdmin(Long id) {
+        CachedPost p = postCache.get(id, this::loadPost);
+        return p.post().withViews(p.views());
+    }
+
+    // Validator lookup for conditional GETs. It goes through the post cache, so a miss is loaded once however many
+    // requests ask for the post at the same time, and the body that usually follows is then a hit.
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public PostVersionDTO getPostVersion(Long id, String username) {
+        PostVersionDTO v = loadVersion(id);
+        checkOwner(v.author(), username);
+        return v;
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public PostVersionDTO getPostVersionAdmin(Long id) {
+        return loadVersion(id);
     }
 
     @Transactional
@@ -56,35 +138,99 @@ public class PostService {
                 .orElseThrow(() -> new ResourceNotFoundException("Cannot find user with username " + username));
         Post p = new Post(title, content, u);
         Post updated = postRepository.save(p);
+        eventPublisher.publishEvent(new PostSavedEvent(toIndexedPost(updated, content)));
         return PostMapper.toCreatePostResponseDTO(updated);
     }
 
     @Transactional
     public PostDTO updatePost(Long id, String title, String content, String username) {
-        User u = userRepository.findByUsername(username)
-                .orElseThrow(() -> new ResourceNotFoundException("Cannot find user with username " + username));
-        Post p = postRepository.findById(id)
+        Post p = postRepository.findWithAuthorByIdAndAuthorUsername(id, username)
+                .orElseThrow(() -> notOwnedOrMissing(id));
+        return update(id, p, title, content);
+    }
+
+    @Transactional
+    public PostDTO updatePostAdmin(Long id, String title, String content) {
+        Post p = postRepository.findWithAuthorById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Cannot find post with id: " + id));
+        return update(id, p, title, content);
+    }
 
-        if (u.getAuthorities().stream().noneMatch(grantedAuthority -> grantedAuthority.getAuthority().equals("ROLE_" + UserRole.ADMIN))
-                && !p.getAuthor().getUsername().equals(u.getUsername()))
-            throw new AccessDeniedException("This post does not belong to this author!");
+    @Transactional
+    public void deletePost(Long id, String username) {
+        if (postRepository.deleteByIdAndAuthorUsername(id, username) == 0) throw notOwnedOrMissing(id);
+        afterDelete(id);
+    }
 
+    @Transactional
+    public void deletePostAdmin(Long id) {
+        if (postRepository.deletePostById(id) == 0)
+            throw new ResourceNotFoundException("Cannot find post with id: " + id);
+        afterDelete(id);
+    }
+
+    private PostDTO update(Long id, Post p, String title, String content) {
         p.setTitle(title);
-        p.setContent(content);
+        p.markUpdated();
+        postBodyRepository.updateContent(id, PostContent.of(content));
+        postCache.invalidateAfterCommit(id);
+        eventPublisher.publishEvent(new PostSavedEvent(toIndexedPost(p, content)));
+        return PostMapper.toPostDto(p, content);
+    }
 
-        return PostMapper.toPostDto(p);
+    private void afterDelete(Long id) {
+        postCache.invalidateAfterCommit(id);
+        eventPublisher.publishEvent(new PostDeletedEvent(id));
     }
 
-    @Transactional
-    public void deletePost(Long id, String username) {
-        User u = userRepository.findByUsername(username)
-                .orElseThrow(() -> new ResourceNotFoundException("Cannot find user with username " + username));
-        Post p = postRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Cannot find post with id: " + id));
-        if (u.getAuthorities().stream().noneMatch(grantedAuthority -> grantedAuthority.getAuthority().equals("ROLE_" + UserRole.ADMIN))
-                && !p.getAuthor().getUsername().equals(u.getUsername()))
-            throw new AccessDeniedException("This post does not belong to this author!");
-        postRepository.delete(p);
+    // An owner-scoped lookup that finds nothing is either someone else's post or no post at all; only this
+    // failure path pays for the extra query that tells 403 from 404.
+    private RuntimeException notOwnedOrMissing(Long id) {
+        return postRepository.existsById(id)
+                ? new AccessDeniedException("This post does not belong to this author!")
+                : new ResourceNotFoundException("Cannot find post with id: " + id);
+    }
+
+    private static void checkOwner(String owner, String username) {
+        if (!owner.equals(username)) throw new AccessDeniedException("This post does not belong to this author!");
+    }
+
+    private PostVersionDTO loadVersion(Long id) {
+        CachedPost p = postCache.get(id, this::loadPost);
+        return new PostVersionDTO(id, p.owner(), p.updatedAt(), p.views());
+    }
+
+    // The result is cached until the next write, so it is read from the primary rather than a replica that may
+    // still be behind that write.
+    private CachedPost loadPost(Long id) {
+        return PrimaryReads.call(() -> readOnlyTransaction.execute(status -> {
+            Post p = postRepository.findWithAuthorAndBodyById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Cannot find post with id: " + id));
+            return new CachedPost(PostMapper.toPostDto(p), p.getAuthor().getUsername(), p.getUpdatedAt(), p.getViews());
+        }));
+    }
+
+    private List<PostSummaryDTO> withViews(List<PostSummaryDTO> hits) {
+        if (hits.isEmpty()) return hits;
+        Map<Long, Long> views = postRepository.findViewsByIdIn(hits.stream().map(PostSummaryDTO::id).toList()).stream()
+                .collect(Collectors.toMap(PostViewsDTO::id, PostViewsDTO::views));
+        return hits.stream().map(hit -> hit.withViews(views.getOrDefault(hit.id(), 0L))).toList();
+    }
+
+    private static IndexedPost toIndexedPost(Post p, String content) {
+        return new IndexedPost(p.getId(), p.getTitle(), content, p.getAuthor().getUsername(), p.getCreatedAt(),
+                p.getUpdatedAt());
+    }
+
+    private static int clampPageSize(int limit) {
+        return Math.clamp(limit, 1, MAX_PAGE_SIZE);
+    }
+
+    // One extra row is fetched to learn whether another page exists without a count query.
+    private static PostSummaryPageDTO toPage(List<PostSummaryDTO> posts, int size) {
+        if (posts.size() <= size) return new PostSummaryPageDTO(posts, null);
+        List<PostSummaryDTO> items = List.copyOf(posts.subList(0, size));
+        PostSummaryDTO last = items.getLast();
+        return new PostSummaryPageDTO(items, new PostCursor(last.createdAt(), last.id()).encode());
     }
 }
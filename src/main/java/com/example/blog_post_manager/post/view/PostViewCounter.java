@@ -0,0 +1,102 @@
+package com.example.blog_post_manager.post.view;
+
+import com.example.blog_post_manager.post.cache.PostCache;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Counts post views in memory and writes them out periodically as one batched increment per post, so reads
+ * never wait on a row lock. Pending counts are flushed once more when the application shuts down.
+ */
+@Component
+public class PostViewCounter implements MeterBinder, DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(PostViewCounter.class);
+
+    private static final String INCREMENT_VIEWS = "update post set views = views + ? where id = ?";
+
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    // Not synchronized: the flush does JDBC I/O and runs on a virtual thread when those are enabled.
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PostCache postCache;
+
+    public PostViewCounter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager, PostCache postCache) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.postCache = postCache;
+    }
+
+    public void record(Long postId) {
+        pending.computeIfAbsent(postId, id -> new LongAdder()).increment();
+    }
+
+    // An adder that stayed empty for a whole interval is dropped. A view landing on it at that exact moment is
+    // lost, which is the price of never locking on the read path.
+    @Scheduled(fixedDelayString = "${app.post.views.flush-interval-ms:5000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushPending() {
+        List<Delta> deltas = new ArrayList<>();
+        pending.forEach((id, adder) -> {
+            long views = adder.sumThenReset();
+            if (views != 0) {
+                deltas.add(new Delta(id, views));
+            } else {
+                pending.remove(id, adder);
+            }
+        });
+        if (deltas.isEmpty()) return;
+
+        // A stable row order keeps concurrent flushes from several instances from deadlocking.
+        deltas.sort(Comparator.comparingLong(Delta::postId));
+        List<Object[]> args = deltas.stream().map(d -> new Object[]{d.views(), d.postId()}).toList();
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INCREMENT_VIEWS, args));
+        } catch (DataAccessException e) {
+            deltas.forEach(d -> pending.computeIfAbsent(d.postId(), id -> new LongAdder()).add(d.views()));
+            log.warn("Could not flush view counts for {} posts, will retry", deltas.size(), e);
+            return;
+        }
+        deltas.forEach(d -> postCache.addViews(d.postId(), d.views()));
+    }
+
+    @Override
+    public void destroy() {
+        flush();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("post.views.pending", pending, ConcurrentHashMap::size)
+                .description("Posts with view counts not yet written to the database")
+                .register(registry);
+    }
+
+    private record Delta(long postId, long views) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.blog_post_manager.security.authentication;
+
+import com.example.blog_post_manager.user.model.UserRole;
+import org.springframework.security.core.Authentication;
+
+/**
+ * Role checks on the current authentication, which controllers use to pick a service's admin or owner variant.
+ */
+public final class Authorities {
+    private static final String ADMIN = "ROLE_" + UserRole.ADMIN.name();
+
+    private Authorities() {
+    }
+
+    public static boolean isAdmin(Authentication auth) {
+        return auth.getAuthorities().stream()
+                .anyMatch(grantedAuthority -> grantedAuthority.getAuthority().equals(ADMIN));
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.blog_post_manager.security.authentication;
+
+import com.example.blog_post_manager.security.authentication.VerifiedCredentialCache.VerifiedCredential;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Username/password authentication that only pays for the user lookup and BCrypt check on a cache miss.
+ * Wired into the filter chain by SecurityConfig rather than published as a bean.
+ */
+public class CachingAuthenticationProvider implements AuthenticationProvider {
+    private final DaoAuthenticationProvider delegate;
+    private final VerifiedCredentialCache verifiedCredentialCache;
+
+    public CachingAuthenticationProvider(UserDetailsService userDetailsService, PasswordEncoder passwordEncoder, VerifiedCredentialCache verifiedCredentialCache) {
+        this.delegate = new DaoAuthenticationProvider(passwordEncoder);
+        this.delegate.setUserDetailsService(userDetailsService);
+        this.verifiedCredentialCache = verifiedCredentialCache;
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        String username = authentication.getName();
+        if (!(authentication.getCredentials() instanceof String password)) {
+            return delegate.authenticate(authentication);
+        }
+
+        // The principal is the username rather than the loaded User, which would keep its password hash and
+        // persistence state alive for as long as the entry.
+        VerifiedCredential verified = verifiedCredentialCache.get(username, password,
+                () -> new VerifiedCredential(username, delegate.authenticate(authentication).getAuthorities()));
+
+        UsernamePasswordAuthenticationToken result = UsernamePasswordAuthenticationToken.authenticated(username, null, verified.authorities());
+        result.setDetails(authentication.getDetails());
+        return result;
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return delegate.supports(authentication);
+    }
+}
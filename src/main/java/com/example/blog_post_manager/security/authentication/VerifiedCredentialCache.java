@@ -0,0 +1,99 @@
+package com.example.blog_post_manager.security.authentication;
+
+import com.example.blog_post_manager.user.event.UserCredentialsChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Remembers username/password pairs that recently passed a full BCrypt check. Entries are keyed by an
+ * HMAC of the pair under a per-process random key and hold only the username and authorities, so neither
+ * the password, its hash nor anything that can be brute-forced offline is ever held in memory.
+ */
+@Component
+public class VerifiedCredentialCache implements MeterBinder {
+    private static final String MAC_ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec key;
+    private final Cache<String, VerifiedCredential> cache;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public VerifiedCredentialCache(@Value("${app.security.credential-cache.ttl:5m}") Duration ttl,
+                                   @Value("${app.security.credential-cache.maximum-size:10000}") long maximumSize) {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        this.key = new SecretKeySpec(secret, MAC_ALGORITHM);
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    public VerifiedCredential get(String username, String password, Supplier<VerifiedCredential> verifier) {
+        String key = digest(username, password);
+        VerifiedCredential cached = cache.getIfPresent(key);
+        if (cached != null) return cached;
+
+        // Same guard as PostCache: a role or password change that commits while the verifier runs may leave it
+        // with the old authorities, which are then returned once but never cached.
+        long seen = invalidations.get();
+        VerifiedCredential verified = verifier.get();
+        cache.asMap().compute(key, (k, existing) -> invalidations.get() == seen ? verified : existing);
+        return verified;
+    }
+
+    public void invalidate(String username) {
+        invalidations.incrementAndGet();
+        cache.asMap().values().removeIf(credential -> credential.username().equals(username));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserCredentialsChanged(UserCredentialsChangedEvent event) {
+        invalidate(event.username());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "verifiedCredentials");
+    }
+
+    private String digest(String username, String password) {
+        try {
+            Mac mac = Mac.getInstance(MAC_ALGORITHM);
+            mac.init(key);
+            byte[] user = username.getBytes(StandardCharsets.UTF_8);
+            // Length-prefix the username so ("ab", "c") and ("a", "bc") never share a key.
+            mac.update(ByteBuffer.allocate(Integer.BYTES).putInt(user.length).array());
+            mac.update(user);
+            return Base64.getEncoder().encodeToString(mac.doFinal(password.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(MAC_ALGORITHM + " is not available", e);
+        }
+    }
+
+    public record VerifiedCredential(String username, Collection<? extends GrantedAuthority> authorities) {
+        public VerifiedCredential {
+            authorities = List.copyOf(authorities);
+        }
+    }
+}
@@ -1,20 +1,33 @@
 package com.example.blog_post_manager.security.config;
 
+import com.example.blog_post_manager.security.authentication.CachingAuthenticationProvider;
+import com.example.blog_post_manager.security.authentication.VerifiedCredentialCache;
+import com.example.blog_post_manager.security.token.TokenConfig;
+import com.example.blog_post_manager.security.token.TokenService;
 import com.example.blog_post_manager.user.model.UserRole;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationProvider;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
 import org.springframework.security.web.SecurityFilterChain;
 
 @Configuration
 @EnableWebSecurity
+@Import({TokenConfig.class, VerifiedCredentialCache.class})
 public class SecurityConfig {
 
     @Bean
@@ -23,18 +36,44 @@ public class SecurityConfig {
     }
 
     @Bean
-    SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    SecurityFilterChain securityFilterChain(HttpSecurity http, UserDetailsService userDetailsService,
+                                            VerifiedCredentialCache verifiedCredentialCache, JwtDecoder jwtDecoder) throws Exception {
+        // Both ways in are wired here rather than through AuthenticationProvider beans and the global manager: HTTP
+        // Basic goes through the credential cache, bearer tokens through the JWT decoder, and nothing falls back to
+        // a second, uncached username/password check.
+        JwtAuthenticationProvider jwtAuthenticationProvider = new JwtAuthenticationProvider(jwtDecoder);
+        jwtAuthenticationProvider.setJwtAuthenticationConverter(jwtAuthenticationConverter());
+        AuthenticationManager authenticationManager = new ProviderManager(
+                new CachingAuthenticationProvider(userDetailsService, passwordEncoder(), verifiedCredentialCache),
+                jwtAuthenticationProvider);
         http
+                .authenticationManager(authenticationManager)
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(config ->
-                        config.requestMatchers(HttpMethod.GET, "/posts/**").permitAll()
+                        config.requestMatchers(HttpMethod.GET, "/posts/export").hasRole(UserRole.ADMIN.name())
+                                .requestMatchers(HttpMethod.GET, "/posts/**").permitAll()
+                                .requestMatchers(HttpMethod.POST, "/posts/import").hasRole(UserRole.ADMIN.name())
+                                .requestMatchers(HttpMethod.POST, "/posts/bulk/reassign").hasRole(UserRole.ADMIN.name())
                                 .requestMatchers(HttpMethod.GET, "/users").hasRole(UserRole.ADMIN.name())
                                 .requestMatchers(HttpMethod.POST, "/users").permitAll()
                                 .requestMatchers(HttpMethod.PATCH, "/users").hasRole(UserRole.ADMIN.name())
                                 .requestMatchers(HttpMethod.DELETE, "/users{username}/role/{role}").hasRole(UserRole.ADMIN.name())
+                                .requestMatchers("/actuator/health").permitAll()
+                                .requestMatchers("/actuator/**").hasRole(UserRole.ADMIN.name())
                                 .anyRequest().authenticated())
                 .httpBasic(Customizer.withDefaults())
+                .oauth2ResourceServer(config -> config.jwt(Customizer.withDefaults()))
                 .sessionManagement(config -> config.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
         return http.build();
     }
+
+    // Bearer tokens carry the roles as claims, so authenticating them needs neither the database nor BCrypt.
+    private static JwtAuthenticationConverter jwtAuthenticationConverter() {
+        JwtGrantedAuthoritiesConverter authoritiesConverter = new JwtGrantedAuthoritiesConverter();
+        authoritiesConverter.setAuthoritiesClaimName(TokenService.ROLES_CLAIM);
+        authoritiesConverter.setAuthorityPrefix("ROLE_");
+        JwtAuthenticationConverter converter = new JwtAuthenticationConverter();
+        converter.setJwtGrantedAuthoritiesConverter(authoritiesConverter);
+        return converter;
+    }
 }
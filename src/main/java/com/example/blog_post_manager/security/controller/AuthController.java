@@ -0,0 +1,29 @@
+package com.example.blog_post_manager.security.controller;
+
+import com.example.blog_post_manager.security.dto.TokenResponseDTO;
+import com.example.blog_post_manager.security.token.TokenService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("auth")
+public class AuthController {
+    private final TokenService tokenService;
+
+    public AuthController(TokenService tokenService) {
+        this.tokenService = tokenService;
+    }
+
+    @PostMapping("/token")
+    public ResponseEntity<TokenResponseDTO> issueToken(Authentication auth) {
+        // A token must not be able to mint its own successor, otherwise it never has to meet the password again.
+        if (!(auth instanceof UsernamePasswordAuthenticationToken))
+            throw new AccessDeniedException("Tokens can only be issued for username/password authentication!");
+        return ResponseEntity.ok(tokenService.issue(auth));
+    }
+}
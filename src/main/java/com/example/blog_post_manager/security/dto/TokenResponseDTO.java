@@ -0,0 +1,8 @@
+package com.example.blog_post_manager.security.dto;
+
+public record TokenResponseDTO(
+        String accessToken,
+        String tokenType,
+        long expiresIn
+) {
+}
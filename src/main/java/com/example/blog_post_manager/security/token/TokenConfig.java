@@ -0,0 +1,46 @@
+package com.example.blog_post_manager.security.token;
+
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.*;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+@Configuration
+public class TokenConfig {
+    private static final int MIN_SECRET_BYTES = 32;
+
+    @Bean
+    SecretKey tokenSigningKey(@Value("${app.security.token.secret}") String secret) {
+        byte[] bytes = secret.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length < MIN_SECRET_BYTES)
+            throw new IllegalStateException("app.security.token.secret must be at least " + MIN_SECRET_BYTES + " bytes long for HS256");
+        return new SecretKeySpec(bytes, "HmacSHA256");
+    }
+
+    @Bean
+    TokenRevocationList tokenRevocationList(@Value("${app.security.token.ttl:15m}") Duration ttl) {
+        return new TokenRevocationList(ttl);
+    }
+
+    @Bean
+    JwtEncoder jwtEncoder(SecretKey tokenSigningKey) {
+        return new NimbusJwtEncoder(new ImmutableSecret<>(tokenSigningKey));
+    }
+
+    @Bean
+    JwtDecoder jwtDecoder(SecretKey tokenSigningKey, TokenRevocationList tokenRevocationList) {
+        NimbusJwtDecoder decoder = NimbusJwtDecoder.withSecretKey(tokenSigningKey)
+                .macAlgorithm(MacAlgorithm.HS256)
+                .build();
+        decoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(JwtValidators.createDefault(), tokenRevocationList));
+        return decoder;
+    }
+}
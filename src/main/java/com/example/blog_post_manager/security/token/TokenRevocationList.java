@@ -0,0 +1,52 @@
+package com.example.blog_post_manager.security.token;
+
+import com.example.blog_post_manager.user.event.UserCredentialsChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Rejects tokens issued to a user before their roles last changed. Only one instant is kept per user,
+ * and only for as long as a token can live, so the set stays as small as the number of recently changed users.
+ */
+public class TokenRevocationList implements OAuth2TokenValidator<Jwt> {
+    private static final OAuth2Error REVOKED = new OAuth2Error(OAuth2ErrorCodes.INVALID_TOKEN, "The token has been revoked", null);
+
+    private final Cache<String, Instant> revokedBefore;
+
+    public TokenRevocationList(Duration tokenTtl) {
+        this.revokedBefore = Caffeine.newBuilder()
+                .expireAfterWrite(tokenTtl)
+                .build();
+    }
+
+    public void revoke(String username) {
+        revokedBefore.put(username, Instant.now());
+    }
+
+    // iat only has second precision, so a token issued in the same second as the revocation is rejected too.
+    public boolean isRevoked(String username, Instant issuedAt) {
+        Instant revokedAt = revokedBefore.getIfPresent(username);
+        return revokedAt != null && (issuedAt == null || issuedAt.isBefore(revokedAt));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserCredentialsChanged(UserCredentialsChangedEvent event) {
+        revoke(event.username());
+    }
+
+    @Override
+    public OAuth2TokenValidatorResult validate(Jwt token) {
+        return isRevoked(token.getSubject(), token.getIssuedAt())
+                ? OAuth2TokenValidatorResult.failure(REVOKED)
+                : OAuth2TokenValidatorResult.success();
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.blog_post_manager.security.token;
+
+import com.example.blog_post_manager.security.dto.TokenResponseDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+@Service
+public class TokenService {
+    public static final String ROLES_CLAIM = "roles";
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    private final JwtEncoder jwtEncoder;
+    private final Duration ttl;
+
+    public TokenService(JwtEncoder jwtEncoder, @Value("${app.security.token.ttl:15m}") Duration ttl) {
+        this.jwtEncoder = jwtEncoder;
+        this.ttl = ttl;
+    }
+
+    public TokenResponseDTO issue(Authentication auth) {
+        Instant now = Instant.now();
+        List<String> roles = auth.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .filter(authority -> authority.startsWith(ROLE_PREFIX))
+                .map(authority -> authority.substring(ROLE_PREFIX.length()))
+                .toList();
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .subject(auth.getName())
+                .issuedAt(now)
+                .expiresAt(now.plus(ttl))
+                .claim(ROLES_CLAIM, roles)
+                .build();
+        JwsHeader header = JwsHeader.with(MacAlgorithm.HS256).build();
+        String token = jwtEncoder.encode(JwtEncoderParameters.from(header, claims)).getTokenValue();
+        return new TokenResponseDTO(token, "Bearer", ttl.toSeconds());
+    }
+}
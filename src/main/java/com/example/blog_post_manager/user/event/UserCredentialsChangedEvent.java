@@ -0,0 +1,7 @@
+package com.example.blog_post_manager.user.event;
+
+/**
+ * Published when anything that authentication depends on (password, roles, existence) changes for a user.
+ */
+public record UserCredentialsChangedEvent(String username) {
+}
@@ -2,13 +2,17 @@ package com.example.blog_post_manager.user.repository;
 
 import com.example.blog_post_manager.user.model.Role;
 import com.example.blog_post_manager.user.model.UserRole;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 @Repository
 public interface RoleRepository extends JpaRepository<Role, Long> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Role> findByName(UserRole name);
     boolean existsByName(UserRole name);
 }
@@ -4,6 +4,7 @@ import com.example.blog_post_manager.post.exception.ResourceNotFoundException;
 import com.example.blog_post_manager.user.dto.AddRoleToUserResponseDTO;
 import com.example.blog_post_manager.user.dto.CreateUserResponseDTO;
 import com.example.blog_post_manager.user.dto.UserResponseDTO;
+import com.example.blog_post_manager.user.event.UserCredentialsChangedEvent;
 import com.example.blog_post_manager.user.exception.UserWithUsernameAlreadyExistsException;
 import com.example.blog_post_manager.user.mapper.UserMapper;
 import com.example.blog_post_manager.user.model.Role;
@@ -11,6 +12,8 @@ import com.example.blog_post_manager.user.model.User;
 import com.example.blog_post_manager.user.model.UserRole;
 import com.example.blog_post_manager.user.repository.RoleRepository;
 import com.example.blog_post_manager.user.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,15 +23,18 @@ import java.util.Set;
 
 @Service
 @Transactional(readOnly = true)
+@Timed(value = "user.service", histogram = true)
 public class UserManagementService {
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public UserManagementService(UserRepository userRepository, RoleRepository roleRepository, PasswordEncoder passwordEncoder) {
+    public UserManagementService(UserRepository userRepository, RoleRepository roleRepository, PasswordEncoder passwordEncoder, ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
         this.roleRepository = roleRepository;
         this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
     }
 
     public UserResponseDTO getUser(Long id) {
@@ -70,6 +76,7 @@ public class UserManagementService {
                 .orElseThrow(() -> new ResourceNotFoundException("Role not found: " + role.name()));
 
         u.addRole(r);
+        eventPublisher.publishEvent(new UserCredentialsChangedEvent(username));
         return UserMapper.toAddRoleToUserResponseDTO(u, role);
     }
 
@@ -81,13 +88,15 @@ public class UserManagementService {
                 .orElseThrow(() -> new ResourceNotFoundException("Role not found: " + role.name()));
 
         u.removeRole(r);
+        eventPublisher.publishEvent(new UserCredentialsChangedEvent(username));
     }
 
     @Transactional
     public void deleteUser(Long id) {
-        if (!userRepository.existsById(id))
-            throw new ResourceNotFoundException("User with id (" + id + ") not found!");
-        userRepository.deleteById(id);
+        User u = userRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("User with id (" + id + ") not found!"));
+        userRepository.delete(u);
+        eventPublisher.publishEvent(new UserCredentialsChangedEvent(u.getUsername()));
     }
 
     @Transactional
@@ -95,5 +104,6 @@ public class UserManagementService {
         if (!userRepository.existsByUsername(username))
             throw new ResourceNotFoundException("User with username (" + username + ") not found!");
         userRepository.deleteByUsername(username);
+        eventPublisher.publishEvent(new UserCredentialsChangedEvent(username));
     }
 }
@@ -0,0 +1,36 @@
+-- Schema as previously created by ddl-auto: update from the original mapping. Existing databases are baselined at
+-- this version, so it must not include anything added since; later changes are the migrations that follow.
+
+create table users (
+    id bigint not null auto_increment,
+    password varchar(255) not null,
+    username varchar(255) not null,
+    primary key (id),
+    constraint uk_users_username unique (username)
+) engine=InnoDB;
+
+create table roles (
+    id bigint not null auto_increment,
+    name enum ('ADMIN','USER') not null,
+    primary key (id),
+    constraint uk_roles_name unique (name)
+) engine=InnoDB;
+
+create table user_roles (
+    role_id bigint not null,
+    user_id bigint not null,
+    primary key (role_id, user_id),
+    constraint fk_user_roles_role foreign key (role_id) references roles (id),
+    constraint fk_user_roles_user foreign key (user_id) references users (id)
+) engine=InnoDB;
+
+create table post (
+    id bigint not null auto_increment,
+    author_id bigint not null,
+    title varchar(255),
+    content longtext,
+    created_at datetime(6),
+    updated_at datetime(6),
+    primary key (id),
+    constraint fk_post_author foreign key (author_id) references users (id)
+) engine=InnoDB;
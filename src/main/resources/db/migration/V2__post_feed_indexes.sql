@@ -0,0 +1,4 @@
+-- Owner feed: where author_id = ? order by created_at desc, id desc (and the keyset "after" variant).
+create index idx_post_author_created_at_id on post (author_id, created_at, id);
+-- Admin feed: order by created_at desc, id desc.
+create index idx_post_created_at_id on post (created_at, id);
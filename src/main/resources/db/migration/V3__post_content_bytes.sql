@@ -0,0 +1,3 @@
+-- PostContentConverter stores bodies as bytes (plain UTF-8 or a compressed frame). Existing text keeps its UTF-8
+-- bytes and is read back as is.
+alter table post modify content longblob;
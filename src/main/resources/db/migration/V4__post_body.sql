@@ -0,0 +1,11 @@
+-- Bodies move to their own table so post metadata reads never touch them.
+create table post_body (
+    post_id bigint not null,
+    content longblob,
+    primary key (post_id),
+    constraint fk_post_body_post foreign key (post_id) references post (id) on delete cascade
+) engine=InnoDB;
+
+insert into post_body (post_id, content) select id, content from post;
+
+alter table post drop column content;
@@ -0,0 +1,2 @@
+-- Written only by PostViewCounter's batched increments.
+alter table post add column views bigint default 0 not null;
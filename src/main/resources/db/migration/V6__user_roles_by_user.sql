@@ -0,0 +1,3 @@
+-- UserRepository.findByUsername fetches roles with user_roles.user_id = ?; the primary key leads with role_id,
+-- so give that lookup its own covering index.
+create index idx_user_roles_user_id_role_id on user_roles (user_id, role_id);
@@ -0,0 +1,38 @@
+package com.example.blog_post_manager;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Counts the JDBC statements Hibernate prepares while running an action, so tests can pin the exact
+ * number of round trips a service method costs and fail on N+1 regressions.
+ */
+public class HibernateStatementCounter {
+    private final Statistics statistics;
+
+    public HibernateStatementCounter(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.statistics.setStatisticsEnabled(true);
+    }
+
+    public <T> T assertStatementCount(long expected, Supplier<T> action) {
+        statistics.clear();
+        T result = action.get();
+        assertThat(statistics.getPrepareStatementCount())
+                .as("prepared JDBC statements")
+                .isEqualTo(expected);
+        return result;
+    }
+
+    public void assertStatementCount(long expected, Runnable action) {
+        assertStatementCount(expected, () -> {
+            action.run();
+            return null;
+        });
+    }
+}
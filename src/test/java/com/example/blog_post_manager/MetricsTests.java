@@ -0,0 +1,49 @@
+package com.example.blog_post_manager;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static com.example.blog_post_manager.SecurityConstants.ADMIN_ROLE;
+import static com.example.blog_post_manager.SecurityConstants.TEST_USER;
+import static com.example.blog_post_manager.SecurityConstants.USER_ROLE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class MetricsTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void prometheusEndpointExposesServiceTimersPoolAndExceptionMetrics() throws Exception {
+        // The user does not exist, so PostService throws and GlobalExceptionHandler answers 404.
+        mockMvc.perform(get("/posts/1").with(user(TEST_USER).roles(USER_ROLE)))
+                .andExpect(status().isNotFound());
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus").with(user("admin").roles(ADMIN_ROLE)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(scrape)
+                .contains("post_service_seconds_bucket{")
+                .contains("method=\"getPostVersion\"")
+                .contains("api_exceptions_total{exception=\"ResourceNotFoundException\",status=\"404\"}")
+                .contains("hikaricp_connections_pending")
+                .contains("hibernate_sessions_open_total");
+    }
+
+    @Test
+    void prometheusEndpointRequiresAdmin() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus").with(user(TEST_USER).roles(USER_ROLE)))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.blog_post_manager.datasource;
+
+import com.example.blog_post_manager.post.cache.PostCache;
+import com.example.blog_post_manager.post.content.PostContentCodec;
+import com.example.blog_post_manager.post.search.PostSearchIndex;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+
+import static com.example.blog_post_manager.SecurityConstants.ADMIN_ROLE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Two in-memory H2 databases stand in for the primary and the replica; each knows its own name. The replica is only
+// migrated once the context is up, so the search index, whose startup check reads the posts table, is mocked out.
+@SpringBootTest(properties = {
+        "app.datasource.replica.url=" + ReplicaDataSourceConfigTests.REPLICA_URL,
+        "app.datasource.replica.read-your-writes-window=1m"
+})
+@AutoConfigureMockMvc
+class ReplicaDataSourceConfigTests {
+    static final String REPLICA_URL = "jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1;MODE=MySQL";
+    private static final long POST_ID = 900;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PostCache postCache;
+
+    @Autowired
+    private PostContentCodec contentCodec;
+
+    @MockitoBean
+    private PostSearchIndex postSearchIndex;
+
+    @BeforeEach
+    void setup() throws SQLException {
+        Flyway.configure().dataSource(REPLICA_URL, "sa", "").load().migrate();
+        new JdbcTemplate(dataSource).execute("create table db_role (name varchar(16))");
+        new JdbcTemplate(dataSource).execute("insert into db_role values ('primary')");
+        try (Connection con = DriverManager.getConnection(REPLICA_URL, "sa", ""); Statement st = con.createStatement()) {
+            st.execute("create table db_role (name varchar(16))");
+            st.execute("insert into db_role values ('replica')");
+        }
+    }
+
+    @AfterEach
+    void cleanup() throws SQLException {
+        SecurityContextHolder.clearContext();
+        new JdbcTemplate(dataSource).execute("drop table db_role");
+        try (Connection con = DriverManager.getConnection(REPLICA_URL, "sa", ""); Statement st = con.createStatement()) {
+            st.execute("drop table db_role");
+        }
+    }
+
+    @Test
+    void readOnlyTransactionsGoToTheReplica() {
+        assertThat(database(true)).isEqualTo("replica");
+        assertThat(database(false)).isEqualTo("primary");
+        assertThat(new JdbcTemplate(dataSource).queryForObject("select name from db_role", String.class))
+                .isEqualTo("primary");
+    }
+
+    @Test
+    void usersReadTheirOwnWritesFromThePrimary() {
+        signIn("writer");
+        write();
+        assertThat(database(true)).isEqualTo("primary");
+
+        signIn("someone-else");
+        assertThat(database(true)).isEqualTo("replica");
+    }
+
+    @Test
+    void rolledBackWritesDoNotPinTheUserToThePrimary() {
+        signIn("clumsy");
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.executeWithoutResult(status -> {
+            new JdbcTemplate(dataSource).update("update db_role set name = name");
+            status.setRollbackOnly();
+        });
+
+        assertThat(database(true)).isEqualTo("replica");
+    }
+
+    // The version lookup that comes first in the request is an ordinary read-only query; the post it caches must
+    // still come from the primary.
+    @Test
+    @WithMockUser(username = "reader", roles = {ADMIN_ROLE})
+    void postsCachedDuringARequestAreReadFromThePrimary() throws Exception {
+        JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+        insertPost(new JdbcTemplate(dataSource), "fresh title");
+        insertPost(replica, "stale title");
+        try {
+            mockMvc.perform(get("/posts/" + POST_ID))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.title").value("fresh title"));
+
+            assertThat(postCache.getIfPresent(POST_ID).post().title()).isEqualTo("fresh title");
+        } finally {
+            postCache.invalidate(POST_ID);
+            deletePost(new JdbcTemplate(dataSource));
+            deletePost(replica);
+        }
+    }
+
+    private void insertPost(JdbcTemplate db, String title) {
+        db.update("insert into users (id, username, password) values (?, 'replica-author', 'password')", POST_ID);
+        db.update("insert into post (id, author_id, title, created_at, updated_at) values (?, ?, ?, ?, ?)",
+                POST_ID, POST_ID, title, LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 1, 1, 0, 0));
+        db.update("insert into post_body (post_id, content) values (?, ?)", POST_ID, contentCodec.encode("content"));
+    }
+
+    private static void deletePost(JdbcTemplate db) {
+        db.update("delete from post where id = ?", POST_ID);
+        db.update("delete from users where id = ?", POST_ID);
+    }
+
+    private String database(boolean readOnly) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(readOnly);
+        return tx.execute(status -> new JdbcTemplate(dataSource).queryForObject("select name from db_role", String.class));
+    }
+
+    private void write() {
+        new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> new JdbcTemplate(dataSource).update("update db_role set name = name"));
+    }
+
+    private static void signIn(String username) {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(username, null));
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.blog_post_manager.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTests {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replicaConnection;
+
+    @AfterEach
+    void cleanup() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void fallsBackToThePrimaryWhenTheReplicaCannotHandOutConnections() throws SQLException {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replica, new RecentWriters(Duration.ofSeconds(5)));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replica.getConnection()).thenThrow(new SQLTransientConnectionException("replica down"));
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        assertThat(routing.isReplicaHealthy()).isFalse();
+
+        // Until a health check succeeds the replica is not asked again.
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        verify(replica, times(1)).getConnection();
+    }
+
+    @Test
+    void primaryReadsSkipTheReplicaInReadOnlyTransactions() throws SQLException {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replica, new RecentWriters(Duration.ofSeconds(5)));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+
+        assertThat(PrimaryReads.call(() -> getConnection(routing))).isSameAs(primaryConnection);
+        assertThat(routing.getConnection()).isSameAs(replicaConnection);
+    }
+
+    @Test
+    void healthCheckPutsTheReplicaBackIntoRotation() throws SQLException {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replica, new RecentWriters(Duration.ofSeconds(5)));
+        when(replica.getConnection()).thenThrow(new SQLTransientConnectionException("replica down"))
+                .thenReturn(replicaConnection);
+        when(replicaConnection.isValid(anyInt())).thenReturn(true);
+
+        routing.checkReplica();
+        assertThat(routing.isReplicaHealthy()).isFalse();
+
+        routing.checkReplica();
+        assertThat(routing.isReplicaHealthy()).isTrue();
+        verify(replicaConnection).close();
+    }
+
+    private static Connection getConnection(DataSource dataSource) {
+        try {
+            return dataSource.getConnection();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
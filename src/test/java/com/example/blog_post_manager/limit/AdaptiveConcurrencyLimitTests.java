@@ -0,0 +1,80 @@
+package com.example.blog_post_manager.limit;
+
+import com.example.blog_post_manager.limit.AdaptiveConcurrencyLimit.Permit;
+import com.example.blog_post_manager.limit.AdaptiveConcurrencyLimit.Priority;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimitTests {
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+    private static final long SLOW = Duration.ofSeconds(1).toNanos();
+
+    private final AdaptiveConcurrencyLimit limit =
+            new AdaptiveConcurrencyLimit(10, 2, 12, Duration.ofMillis(250), 0.5, 0.5);
+
+    @Test
+    void rejectsOnceTheLimitIsInUse() {
+        for (int i = 0; i < 10; i++) assertThat(limit.tryAcquire(Priority.READ)).isNotNull();
+
+        assertThat(limit.tryAcquire(Priority.READ)).isNull();
+        assertThat(limit.inflight()).isEqualTo(10);
+    }
+
+    @Test
+    void writesOnlyGetTheirShare() {
+        for (int i = 0; i < 5; i++) assertThat(limit.tryAcquire(Priority.WRITE)).isNotNull();
+
+        assertThat(limit.tryAcquire(Priority.WRITE)).isNull();
+        assertThat(limit.tryAcquire(Priority.READ)).isNotNull();
+    }
+
+    @Test
+    void releasingFreesThePermit() {
+        Permit permit = limit.tryAcquire(Priority.READ);
+
+        permit.release(false);
+
+        assertThat(limit.inflight()).isZero();
+    }
+
+    @Test
+    void growsAdditivelyOnlyWhileBusy() {
+        long t = System.nanoTime();
+        limit.onSample(t, t + FAST, 1, false);
+        assertThat(limit.limit()).isEqualTo(10);
+
+        limit.onSample(t, t + FAST, 5, false);
+        limit.onSample(t, t + FAST, 6, false);
+        limit.onSample(t, t + FAST, 6, false);
+        assertThat(limit.limit()).isEqualTo(12);
+    }
+
+    @Test
+    void backsOffMultiplicativelyOnSlowOrFailedRequests() {
+        long t = System.nanoTime();
+        limit.onSample(t, t + SLOW, 1, false);
+        assertThat(limit.limit()).isEqualTo(5);
+
+        // Each of these was admitted after the previous decrease, so each is a congestion event of its own.
+        t += SLOW;
+        limit.onSample(t, t + FAST, 5, true);
+        t += FAST;
+        limit.onSample(t, t + FAST, 5, true);
+        assertThat(limit.limit()).isEqualTo(2);
+    }
+
+    @Test
+    void aBurstOfSlowRequestsBacksOffOnce() {
+        long t = System.nanoTime();
+        for (int i = 0; i < 8; i++) limit.onSample(t + i, t + SLOW + i, 8, false);
+        assertThat(limit.limit()).isEqualTo(5);
+
+        // Requests admitted under the reduced limit are slow as well: the congestion persists, so back off again.
+        long afterBackoff = t + SLOW + 1;
+        limit.onSample(afterBackoff, afterBackoff + SLOW, 4, false);
+        assertThat(limit.limit()).isEqualTo(2);
+    }
+}
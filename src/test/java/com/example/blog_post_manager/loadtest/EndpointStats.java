@@ -0,0 +1,42 @@
+package com.example.blog_post_manager.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram and error count of one endpoint. Latencies are measured from the intended start of a
+ * request, so queueing caused by a slow server is counted instead of hidden (no coordinated omission).
+ */
+final class EndpointStats {
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(2);
+
+    private final Histogram latencies = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3);
+    private final LongAdder errors = new LongAdder();
+
+    void record(long latencyNanos, boolean error) {
+        latencies.recordValue(Math.min(latencyNanos, HIGHEST_TRACKABLE_NANOS));
+        if (error) errors.increment();
+    }
+
+    Result result(String endpoint, double seconds) {
+        return new Result(endpoint,
+                latencies.getTotalCount(),
+                errors.sum(),
+                latencies.getTotalCount() / seconds,
+                millis(latencies.getValueAtPercentile(50)),
+                millis(latencies.getValueAtPercentile(99)),
+                millis(latencies.getValueAtPercentile(99.9)),
+                millis(latencies.getMaxValue()));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    record Result(String endpoint, long requests, long errors, double throughput,
+                  double p50Ms, double p99Ms, double p999Ms, double maxMs) {
+    }
+}
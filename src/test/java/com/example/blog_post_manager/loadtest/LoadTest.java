@@ -0,0 +1,117 @@
+package com.example.blog_post_manager.loadtest;
+
+import com.example.blog_post_manager.BlogPostManagerApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Boots the application against the in-memory test database, seeds users and posts, and drives an
+ * open-model workload over HTTP. Requests are issued at a fixed arrival rate regardless of how fast the
+ * server answers, and per-endpoint throughput and latency percentiles are written as JSON.
+ *
+ * <pre>
+ * ./mvnw -Ploadtest test-compile exec:java -Dexec.args="--workload=feed --rate=500 --duration=60"
+ * </pre>
+ *
+ * Options: {@code --workload=feed|write-burst|mixed-auth}, {@code --rate} (requests/s), {@code --duration}
+ * and {@code --warmup} (seconds), {@code --users}, {@code --posts-per-user} and {@code --out}.
+ */
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BlogPostManagerApplication.class)
+                // Measures the server itself, not how many requests the concurrency limit would shed.
+                .properties("server.port=0", "logging.level.root=WARN", "app.limit.enabled=false")
+                .run()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            try (HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build()) {
+                SeedData seed = SeedData.seed(context, "http://localhost:" + port,
+                        options.users(), options.postsPerUser(), client);
+                Map<String, EndpointStats> stats = run(options, seed, client);
+                writeReport(options, stats, context.getBean(ObjectMapper.class));
+            }
+        }
+    }
+
+    private static Map<String, EndpointStats> run(LoadTestOptions options, SeedData seed, HttpClient client) {
+        Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+        // One virtual thread per request, so a slow server never holds back the arrival schedule.
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        long warmupNanos = options.warmup().toNanos();
+        long endNanos = warmupNanos + options.duration().toNanos();
+        long start = System.nanoTime();
+
+        for (long i = 0; ; i++) {
+            long offset = options.workload().intendedStartNanos(i, options.rate());
+            if (offset >= endNanos) break;
+            long intendedStart = start + offset;
+            long wait = intendedStart - System.nanoTime();
+            if (wait > 0) LockSupport.parkNanos(wait);
+
+            boolean measured = offset >= warmupNanos;
+            Workload.Call call = options.workload().next(seed, ThreadLocalRandom.current());
+            executor.execute(() -> {
+                boolean error;
+                try {
+                    HttpResponse<Void> response = client.send(call.request(), HttpResponse.BodyHandlers.discarding());
+                    error = response.statusCode() >= 400;
+                } catch (Exception e) {
+                    error = true;
+                }
+                if (measured) {
+                    stats.computeIfAbsent(call.endpoint(), endpoint -> new EndpointStats())
+                            .record(System.nanoTime() - intendedStart, error);
+                }
+            });
+        }
+        // Let in-flight requests finish before reading the histograms.
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(2, TimeUnit.MINUTES))
+                System.err.println("Some requests were still in flight when the report was written");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return stats;
+    }
+
+    private static void writeReport(LoadTestOptions options, Map<String, EndpointStats> stats,
+                                    ObjectMapper objectMapper) throws Exception {
+        double seconds = options.duration().toNanos() / 1_000_000_000.0;
+        List<EndpointStats.Result> endpoints = stats.entrySet().stream()
+                .map(e -> e.getValue().result(e.getKey(), seconds))
+                .sorted(Comparator.comparing(EndpointStats.Result::endpoint))
+                .toList();
+        Report report = new Report(options.workload().id(), options.rate(), options.duration().toSeconds(),
+                options.warmup().toSeconds(), options.users(), options.postsPerUser(), Instant.now().toString(),
+                Runtime.version().toString(), endpoints);
+
+        Files.createDirectories(options.out().toAbsolutePath().getParent());
+        objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValue(options.out().toFile(), report);
+        endpoints.forEach(r -> System.out.printf("%-22s %8d req %6d err %9.1f req/s  p50 %8.2fms  p99 %8.2fms  p999 %8.2fms%n",
+                r.endpoint(), r.requests(), r.errors(), r.throughput(), r.p50Ms(), r.p99Ms(), r.p999Ms()));
+        System.out.println("Report written to " + options.out().toAbsolutePath());
+    }
+
+    record Report(String workload, int rate, long durationSeconds, long warmupSeconds, int users, int postsPerUser,
+                  String finishedAt, String javaVersion, List<EndpointStats.Result> endpoints) {
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.blog_post_manager.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Command line options of {@link LoadTest}, given as {@code --name=value}.
+ */
+record LoadTestOptions(Workload workload, int rate, Duration duration, Duration warmup, int users, int postsPerUser,
+                       Path out) {
+
+    static LoadTestOptions parse(String... args) {
+        Workload workload = Workload.FEED;
+        int rate = 200;
+        Duration duration = Duration.ofSeconds(30);
+        Duration warmup = Duration.ofSeconds(10);
+        int users = 50;
+        int postsPerUser = 40;
+        Path out = null;
+
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("="))
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            String name = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            switch (name) {
+                case "workload" -> workload = Workload.valueOf(value.toUpperCase().replace('-', '_'));
+                case "rate" -> rate = Integer.parseInt(value);
+                case "duration" -> duration = Duration.ofSeconds(Long.parseLong(value));
+                case "warmup" -> warmup = Duration.ofSeconds(Long.parseLong(value));
+                case "users" -> users = Integer.parseInt(value);
+                case "posts-per-user" -> postsPerUser = Integer.parseInt(value);
+                case "out" -> out = Path.of(value);
+                default -> throw new IllegalArgumentException("Unknown option: --" + name);
+            }
+        }
+        if (out == null) {
+            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+            out = Path.of("target", "loadtest", workload.id() + "-" + timestamp + ".json");
+        }
+        return new LoadTestOptions(workload, rate, duration, warmup, users, postsPerUser, out);
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.blog_post_manager.loadtest;
+
+import com.example.blog_post_manager.post.model.Post;
+import com.example.blog_post_manager.post.repository.PostRepository;
+import com.example.blog_post_manager.post.search.PostSearchIndex;
+import com.example.blog_post_manager.user.model.Role;
+import com.example.blog_post_manager.user.model.User;
+import com.example.blog_post_manager.user.model.UserRole;
+import com.example.blog_post_manager.user.repository.RoleRepository;
+import com.example.blog_post_manager.user.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.ApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Users, their posts and their credentials, seeded straight through the repositories before a run.
+ */
+record SeedData(String baseUrl, List<SeededUser> users) {
+    private static final String PASSWORD = "load-test-password";
+
+    record SeededUser(String username, String basic, String bearer, long[] postIds) {
+        long randomPost(ThreadLocalRandom random) {
+            return postIds[random.nextInt(postIds.length)];
+        }
+    }
+
+    SeededUser randomUser(ThreadLocalRandom random) {
+        return users.get(random.nextInt(users.size()));
+    }
+
+    static SeedData seed(ApplicationContext context, String baseUrl, int users, int postsPerUser, HttpClient client)
+            throws IOException, InterruptedException {
+        RoleRepository roleRepository = context.getBean(RoleRepository.class);
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        PostRepository postRepository = context.getBean(PostRepository.class);
+        TransactionTemplate tx = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        // One hash for everybody; BCrypt-ing thousands of identical passwords would dominate the seed time.
+        String hash = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+
+        List<long[]> postIds = tx.execute(status -> {
+            Role userRole = roleRepository.findByName(UserRole.USER).orElseGet(() -> roleRepository.save(new Role(UserRole.USER)));
+            if (!roleRepository.existsByName(UserRole.ADMIN)) roleRepository.save(new Role(UserRole.ADMIN));
+            List<long[]> ids = new ArrayList<>(users);
+            for (int i = 0; i < users; i++) {
+                User u = new User(username(i), hash);
+                u.addRole(userRole);
+                userRepository.save(u);
+                List<Post> posts = new ArrayList<>(postsPerUser);
+                for (int j = 0; j < postsPerUser; j++) {
+                    posts.add(new Post("Seeded post " + j + " by " + u.getUsername(), "Seeded content ".repeat(50), u));
+                }
+                ids.add(postRepository.saveAll(posts).stream().mapToLong(Post::getId).toArray());
+            }
+            return ids;
+        });
+
+        // Seeding bypasses PostService and its events, so the search index is rebuilt from the table instead.
+        context.getBean(PostSearchIndex.class).rebuild();
+
+        ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+        List<SeededUser> seeded = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            String basic = "Basic " + Base64.getEncoder()
+                    .encodeToString((username(i) + ":" + PASSWORD).getBytes(StandardCharsets.UTF_8));
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/auth/token"))
+                    .header("Authorization", basic)
+                    .POST(HttpRequest.BodyPublishers.noBody())
+                    .build(), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200)
+                throw new IllegalStateException("Token request for " + username(i) + " failed with " + response.statusCode());
+            String token = objectMapper.readTree(response.body()).get("accessToken").asText();
+            seeded.add(new SeededUser(username(i), basic, "Bearer " + token, postIds.get(i)));
+        }
+        return new SeedData(baseUrl, List.copyOf(seeded));
+    }
+
+    private static String username(int i) {
+        return "loaduser" + i;
+    }
+}
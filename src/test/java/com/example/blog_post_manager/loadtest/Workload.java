@@ -0,0 +1,89 @@
+package com.example.blog_post_manager.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Request mixes and arrival patterns the load test can drive.
+ */
+enum Workload {
+    // Readers polling their feed and opening posts at a steady rate.
+    FEED(false) {
+        @Override
+        Call next(SeedData seed, ThreadLocalRandom random) {
+            SeedData.SeededUser u = seed.randomUser(random);
+            if (random.nextInt(100) < 60) return new Call("GET /posts", get(seed, "/posts", u.bearer()));
+            return new Call("GET /posts/{id}", get(seed, "/posts/" + u.randomPost(random), u.bearer()));
+        }
+    },
+    // Authors creating and editing posts in one-second bursts, with some reads in between.
+    WRITE_BURST(true) {
+        @Override
+        Call next(SeedData seed, ThreadLocalRandom random) {
+            SeedData.SeededUser u = seed.randomUser(random);
+            int pick = random.nextInt(100);
+            if (pick < 50) return new Call("POST /posts", send(seed, "POST", "/posts", u.bearer(), body(random)));
+            if (pick < 80) return new Call("PUT /posts/{id}", send(seed, "PUT", "/posts/" + u.randomPost(random), u.bearer(), body(random)));
+            return new Call("GET /posts", get(seed, "/posts", u.bearer()));
+        }
+    },
+    // The same reads over HTTP Basic and bearer tokens, plus token issuance.
+    MIXED_AUTH(false) {
+        @Override
+        Call next(SeedData seed, ThreadLocalRandom random) {
+            SeedData.SeededUser u = seed.randomUser(random);
+            int pick = random.nextInt(100);
+            if (pick < 40) return new Call("GET /posts [basic]", get(seed, "/posts", u.basic()));
+            if (pick < 80) return new Call("GET /posts [bearer]", get(seed, "/posts", u.bearer()));
+            return new Call("POST /auth/token", send(seed, "POST", "/auth/token", u.basic(), ""));
+        }
+    };
+
+    private final boolean bursty;
+
+    Workload(boolean bursty) {
+        this.bursty = bursty;
+    }
+
+    abstract Call next(SeedData seed, ThreadLocalRandom random);
+
+    String id() {
+        return name().toLowerCase().replace('_', '-');
+    }
+
+    /**
+     * Offset from the start of the run at which request {@code i} is due. Steady workloads spread requests
+     * evenly; bursty ones send each second's worth of requests within its first 100ms.
+     */
+    long intendedStartNanos(long i, int rate) {
+        if (!bursty) return i * 1_000_000_000L / rate;
+        long second = i / rate;
+        long inBurst = i % rate;
+        return second * 1_000_000_000L + inBurst * 100_000_000L / rate;
+    }
+
+    record Call(String endpoint, HttpRequest request) {
+    }
+
+    private static HttpRequest get(SeedData seed, String path, String authorization) {
+        return HttpRequest.newBuilder(URI.create(seed.baseUrl() + path))
+                .header("Authorization", authorization)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+    }
+
+    private static HttpRequest send(SeedData seed, String method, String path, String authorization, String json) {
+        return HttpRequest.newBuilder(URI.create(seed.baseUrl() + path))
+                .header("Authorization", authorization)
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private static String body(ThreadLocalRandom random) {
+        int n = random.nextInt(1_000_000);
+        return "{\"title\":\"Load test post " + n + "\",\"content\":\"" + "Load test content ".repeat(20) + n + "\"}";
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.blog_post_manager.post.cache;
+
+import com.example.blog_post_manager.post.dto.PostDTO;
+import com.example.blog_post_manager.post.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static com.example.blog_post_manager.SecurityConstants.TEST_USER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PostCacheTests {
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2025, 1, 1, 1, 1);
+
+    private final PostCache cache = new PostCache(Duration.ofMinutes(1), 100, 100, Duration.ofSeconds(5));
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final CountDownLatch loaderStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseLoader = new CountDownLatch(1);
+
+    @AfterEach
+    void cleanup() {
+        releaseLoader.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        Future<CachedPost> leader = executor.submit(() -> cache.get(1L, blockingLoader(id -> post(id, "content"))));
+        assertThat(loaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<CachedPost> follower = executor.submit(() -> cache.get(1L, id -> {
+            loads.incrementAndGet();
+            return post(id, "second load");
+        }));
+
+        waitForFollower();
+        releaseLoader.countDown();
+
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isSameAs(leader.get(5, TimeUnit.SECONDS));
+        assertThat(loads).hasValue(1);
+        assertThat(cache.getIfPresent(1L)).isSameAs(leader.get());
+    }
+
+    @Test
+    void followersSeeTheLeadersFailure() throws Exception {
+        Future<CachedPost> leader = executor.submit(() -> cache.get(1L, blockingLoader(id -> {
+            throw new ResourceNotFoundException("Cannot find post with id: " + id);
+        })));
+        assertThat(loaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<CachedPost> follower = executor.submit(() -> cache.get(1L, id -> post(id, "second load")));
+
+        waitForFollower();
+        releaseLoader.countDown();
+
+        assertThatThrownBy(leader::get).hasCauseInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(follower::get).hasCauseInstanceOf(ResourceNotFoundException.class);
+        assertThat(cache.get(1L, id -> post(id, "retried")).post().content()).isEqualTo("retried");
+    }
+
+    @Test
+    void readersAfterAnInvalidationDoNotJoinTheStaleLoad() throws Exception {
+        Future<CachedPost> leader = executor.submit(() -> cache.get(1L, blockingLoader(id -> post(id, "before"))));
+        assertThat(loaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        cache.invalidate(1L);
+        CachedPost after = cache.get(1L, id -> post(id, "after"));
+        releaseLoader.countDown();
+
+        assertThat(after.post().content()).isEqualTo("after");
+        assertThat(leader.get(5, TimeUnit.SECONDS).post().content()).isEqualTo("before");
+        assertThat(cache.getIfPresent(1L).post().content()).isEqualTo("after");
+    }
+
+    @Test
+    void followersStopWaitingForAStuckLoad() throws Exception {
+        PostCache impatient = new PostCache(Duration.ofMinutes(1), 100, 100, Duration.ofMillis(50));
+        executor.submit(() -> impatient.get(1L, blockingLoader(id -> post(id, "stuck"))));
+        assertThat(loaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CachedPost own = impatient.get(1L, id -> post(id, "own load"));
+
+        assertThat(own.post().content()).isEqualTo("own load");
+    }
+
+    @Test
+    void flushedViewsUpdateTheEntryInPlace() {
+        CachedPost loaded = cache.get(1L, id -> post(id, "content"));
+
+        cache.addViews(1L, 3);
+        cache.addViews(2L, 5);
+
+        assertThat(cache.getIfPresent(1L).views()).isEqualTo(3);
+        assertThat(cache.getIfPresent(1L).post()).isSameAs(loaded.post());
+        assertThat(cache.getIfPresent(2L)).isNull();
+    }
+
+    @Test
+    void loadsOverlappingAViewFlushAreNotCached() {
+        CachedPost loaded = cache.get(1L, id -> {
+            cache.addViews(id, 1);
+            return post(id, "read before the flush");
+        });
+
+        assertThat(loaded.post().content()).isEqualTo("read before the flush");
+        assertThat(cache.getIfPresent(1L)).isNull();
+    }
+
+    private Function<Long, CachedPost> blockingLoader(Function<Long, CachedPost> loader) {
+        return id -> {
+            loads.incrementAndGet();
+            loaderStarted.countDown();
+            try {
+                releaseLoader.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return loader.apply(id);
+        };
+    }
+
+    // A waiting follower has no observable state of its own, so give it time to reach the shared load.
+    private static void waitForFollower() throws InterruptedException {
+        Thread.sleep(100);
+    }
+
+    private static CachedPost post(Long id, String content) {
+        return new CachedPost(new PostDTO("title", content, TEST_USER, UPDATED_AT, 0), TEST_USER, UPDATED_AT, 0);
+    }
+}
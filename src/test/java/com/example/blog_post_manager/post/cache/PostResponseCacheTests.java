@@ -0,0 +1,89 @@
+package com.example.blog_post_manager.post.cache;
+
+import com.example.blog_post_manager.post.dto.PostDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPInputStream;
+
+import static com.example.blog_post_manager.SecurityConstants.TEST_USER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostResponseCacheTests {
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2025, 1, 1, 1, 1);
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final PostResponseCache cache = new PostResponseCache(objectMapper, true, DataSize.ofMegabytes(1),
+            true, DataSize.ofBytes(100));
+
+    @Test
+    void reusesTheSerializedBodyWhileThePostIsUnchanged() throws IOException {
+        PostDTO post = post("x".repeat(500), 3);
+
+        PostResponseCache.Body first = cache.render(1L, UPDATED_AT, post, false);
+        PostResponseCache.Body second = cache.render(1L, UPDATED_AT, post, false);
+
+        assertThat(second.bytes()).isSameAs(first.bytes());
+        assertThat(objectMapper.readValue(first.bytes(), PostDTO.class)).isEqualTo(post);
+    }
+
+    @Test
+    void rendersAgainWhenUpdatedAtOrViewsChange() throws IOException {
+        PostResponseCache.Body original = cache.render(1L, UPDATED_AT, post("before", 3), false);
+
+        PostResponseCache.Body edited = cache.render(1L, UPDATED_AT.plusSeconds(1), post("after", 3), false);
+        PostResponseCache.Body viewed = cache.render(1L, UPDATED_AT.plusSeconds(1), post("after", 4), false);
+
+        assertThat(edited.bytes()).isNotEqualTo(original.bytes());
+        assertThat(objectMapper.readValue(edited.bytes(), PostDTO.class).content()).isEqualTo("after");
+        assertThat(objectMapper.readValue(viewed.bytes(), PostDTO.class).views()).isEqualTo(4);
+    }
+
+    @Test
+    void servesPrecompressedBytesOnlyToClientsThatAcceptGzip() throws IOException {
+        PostDTO post = post("compressible ".repeat(100), 0);
+
+        PostResponseCache.Body plain = cache.render(1L, UPDATED_AT, post, false);
+        PostResponseCache.Body gzipped = cache.render(1L, UPDATED_AT, post, true);
+        PostResponseCache.Body small = cache.render(2L, UPDATED_AT, post("short", 0), true);
+
+        assertThat(plain.gzipped()).isFalse();
+        assertThat(gzipped.gzipped()).isTrue();
+        assertThat(gzipped.bytes().length).isLessThan(plain.bytes().length);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped.bytes()))) {
+            assertThat(in.readAllBytes()).isEqualTo(plain.bytes());
+        }
+        assertThat(small.gzipped()).isFalse();
+    }
+
+    @Test
+    void serializesEveryTimeWhenDisabled() {
+        PostResponseCache disabled = new PostResponseCache(objectMapper, false, DataSize.ofMegabytes(1),
+                true, DataSize.ofBytes(0));
+        PostDTO post = post("content", 0);
+
+        PostResponseCache.Body first = disabled.render(1L, UPDATED_AT, post, true);
+
+        assertThat(first.gzipped()).isFalse();
+        assertThat(disabled.render(1L, UPDATED_AT, post, true).bytes()).isNotSameAs(first.bytes());
+    }
+
+    @Test
+    void parsesAcceptEncoding() {
+        assertThat(PostResponseCache.acceptsGzip("gzip, deflate, br")).isTrue();
+        assertThat(PostResponseCache.acceptsGzip("br;q=1.0, GZIP;q=0.5")).isTrue();
+        assertThat(PostResponseCache.acceptsGzip("*")).isTrue();
+        assertThat(PostResponseCache.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(PostResponseCache.acceptsGzip("identity")).isFalse();
+        assertThat(PostResponseCache.acceptsGzip(null)).isFalse();
+    }
+
+    private static PostDTO post(String content, long views) {
+        return new PostDTO("title", content, TEST_USER, UPDATED_AT, views);
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.blog_post_manager.post.content;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostContentCodecTests {
+    private static final String LONG_TEXT = "Long-form posts repeat themselves a lot. ".repeat(100);
+
+    private final PostContentCodec codec = new PostContentCodec(true, 1024, 6);
+
+    @Test
+    void compressesContentAboveTheThreshold() {
+        byte[] stored = codec.encode(LONG_TEXT);
+
+        assertThat(PostContentCodec.isCompressed(stored)).isTrue();
+        assertThat(stored.length).isLessThan(LONG_TEXT.length() / 10);
+        assertThat(PostContentCodec.decode(stored)).isEqualTo(LONG_TEXT);
+    }
+
+    @Test
+    void storesShortContentAsPlainText() {
+        byte[] stored = codec.encode("short post");
+
+        assertThat(stored).isEqualTo("short post".getBytes(StandardCharsets.UTF_8));
+        assertThat(PostContentCodec.decode(stored)).isEqualTo("short post");
+    }
+
+    @Test
+    void neverCompressesWhenDisabled() {
+        PostContentCodec disabled = new PostContentCodec(false, 1024, 6);
+
+        assertThat(disabled.encode(LONG_TEXT)).isEqualTo(LONG_TEXT.getBytes(StandardCharsets.UTF_8));
+        assertThat(disabled.recompress(LONG_TEXT.getBytes(StandardCharsets.UTF_8))).isNull();
+    }
+
+    @Test
+    void readsRowsWrittenBeforeCompressionExisted() {
+        byte[] legacy = "Ünïcödé body from an old row".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(PostContentCodec.decode(legacy)).isEqualTo("Ünïcödé body from an old row");
+        assertThat(PostContentCodec.decode(new byte[0])).isEmpty();
+    }
+
+    @Test
+    void tagsTextThatStartsWithAHeaderByte() {
+        String text = "\u0001 not compressed";
+
+        byte[] stored = codec.encode(text);
+
+        assertThat(stored[0]).isEqualTo(PostContentCodec.RAW);
+        assertThat(PostContentCodec.decode(stored)).isEqualTo(text);
+    }
+
+    @Test
+    void recompressesOnlyPlainRowsThatShrink() {
+        byte[] legacy = LONG_TEXT.getBytes(StandardCharsets.UTF_8);
+
+        byte[] recompressed = codec.recompress(legacy);
+
+        assertThat(PostContentCodec.decode(recompressed)).isEqualTo(LONG_TEXT);
+        assertThat(codec.recompress(recompressed)).isNull();
+        assertThat(codec.recompress("short".getBytes(StandardCharsets.UTF_8))).isNull();
+    }
+}
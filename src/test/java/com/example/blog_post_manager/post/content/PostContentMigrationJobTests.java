@@ -0,0 +1,86 @@
+package com.example.blog_post_manager.post.content;
+
+import com.example.blog_post_manager.post.model.Post;
+import com.example.blog_post_manager.post.repository.PostRepository;
+import com.example.blog_post_manager.user.model.User;
+import com.example.blog_post_manager.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static com.example.blog_post_manager.SecurityConstants.TEST_USER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "app.post.content.compression.enabled=true",
+        "app.post.content.migration.batch-size=2"
+})
+class PostContentMigrationJobTests {
+    private static final String LONG_TEXT = "Long-form posts repeat themselves a lot. ".repeat(100);
+
+    @Autowired
+    private PostContentMigrationJob job;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User author;
+
+    @BeforeEach
+    void setup() {
+        author = userRepository.save(new User(TEST_USER, "password"));
+    }
+
+    @AfterEach
+    void cleanup() {
+        postRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void compressesLegacyRowsAndKeepsThemReadable() {
+        long legacyLong = insertLegacy("legacy long", LONG_TEXT);
+        long legacyShort = insertLegacy("legacy short", "short body");
+        Long written = postRepository.save(new Post("new long", LONG_TEXT, author)).getId();
+        LocalDateTime updatedAt = postRepository.findById(legacyLong).orElseThrow().getUpdatedAt();
+
+        PostContentMigrationJob.Result result = job.run();
+
+        assertThat(result.scanned()).isEqualTo(3);
+        assertThat(result.compressed()).isEqualTo(1);
+        assertThat(result.bytesAfter()).isLessThan(result.bytesBefore());
+        assertThat(PostContentCodec.isCompressed(stored(legacyLong))).isTrue();
+        assertThat(PostContentCodec.isCompressed(stored(written))).isTrue();
+        assertThat(stored(legacyShort)).isEqualTo("short body".getBytes(StandardCharsets.UTF_8));
+
+        Post migrated = postRepository.findWithAuthorAndBodyById(legacyLong).orElseThrow();
+        assertThat(migrated.getContent()).isEqualTo(LONG_TEXT);
+        assertThat(migrated.getUpdatedAt()).isEqualTo(updatedAt);
+        assertThat(postRepository.findWithAuthorAndBodyById(legacyShort).orElseThrow().getContent()).isEqualTo("short body");
+    }
+
+    private long insertLegacy(String title, String content) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update("insert into post (title, author_id, created_at, updated_at) values (?, ?, ?, ?)",
+                title, author.getId(), now, now);
+        long id = jdbcTemplate.queryForObject("select id from post where title = ?", Long.class, title);
+        jdbcTemplate.update("insert into post_body (post_id, content) values (?, ?)", id, content.getBytes(StandardCharsets.UTF_8));
+        return id;
+    }
+
+    private byte[] stored(long id) {
+        return jdbcTemplate.queryForObject("select content from post_body where post_id = ?", byte[].class, id);
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.blog_post_manager.post.controller;
+
+import com.example.blog_post_manager.post.dto.BulkPostItemDTO;
+import com.example.blog_post_manager.post.dto.BulkPostResultDTO;
+import com.example.blog_post_manager.post.dto.BulkPostSelectionDTO;
+import com.example.blog_post_manager.post.service.PostBulkService;
+import com.example.blog_post_manager.security.config.SecurityConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+
+import static com.example.blog_post_manager.SecurityConstants.ADMIN_ROLE;
+import static com.example.blog_post_manager.SecurityConstants.TEST_USER;
+import static com.example.blog_post_manager.SecurityConstants.USER_ROLE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(PostBulkController.class)
+@Import(SecurityConfig.class)
+class PostBulkControllerTests {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @MockitoBean
+    PostBulkService postBulkService;
+
+    @MockitoBean
+    UserDetailsService userDetailsService;
+
+    @Test
+    @WithMockUser(username = TEST_USER, roles = {USER_ROLE})
+    void deletePosts_IsScopedToTheCaller() throws Exception {
+        final BulkPostSelectionDTO selection = new BulkPostSelectionDTO(List.of(1L, 2L), null, null, null);
+        when(postBulkService.deletePosts(selection, TEST_USER)).thenReturn(new BulkPostResultDTO(1, 1, List.of(
+                new BulkPostItemDTO(1L, BulkPostItemDTO.Status.DELETED),
+                new BulkPostItemDTO(2L, BulkPostItemDTO.Status.FORBIDDEN)), false));
+
+        MvcResult result = mockMvc.perform(post("/posts/bulk/delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[1,2]}"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        BulkPostResultDTO body = objectMapper.readValue(result.getResponse().getContentAsString(), BulkPostResultDTO.class);
+        assertThat(body.results()).extracting(BulkPostItemDTO::status)
+                .containsExactly(BulkPostItemDTO.Status.DELETED, BulkPostItemDTO.Status.FORBIDDEN);
+        verify(postBulkService, never()).deletePostsAdmin(any());
+    }
+
+    @Test
+    @WithMockUser(username = TEST_USER, roles = {ADMIN_ROLE})
+    void reassignPosts_AdminReassignsAnyPost() throws Exception {
+        when(postBulkService.reassignPostsAdmin(any(), any())).thenReturn(new BulkPostResultDTO(0, 0, List.of(), false));
+
+        mockMvc.perform(post("/posts/bulk/reassign")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"posts\":{\"author\":\"spammer\"},\"to\":\"moderator\"}"))
+                .andExpect(status().isOk());
+
+        verify(postBulkService).reassignPostsAdmin(new BulkPostSelectionDTO(null, "spammer", null, null), "moderator");
+    }
+
+    @Test
+    @WithMockUser(username = TEST_USER, roles = {USER_ROLE})
+    void reassignPosts_IsForbiddenForUsers() throws Exception {
+        mockMvc.perform(post("/posts/bulk/reassign")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"posts\":{\"ids\":[1]},\"to\":\"other\"}"))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(postBulkService);
+    }
+
+    @Test
+    @WithMockUser(username = TEST_USER, roles = {ADMIN_ROLE})
+    void deletePosts_RejectsAmbiguousSelection() throws Exception {
+        mockMvc.perform(post("/posts/bulk/delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[1],\"author\":\"spammer\"}"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(post("/posts/bulk/delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(postBulkService);
+    }
+}
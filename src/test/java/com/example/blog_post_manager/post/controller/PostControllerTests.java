@@ -1,9 +1,12 @@
 package com.example.blog_post_manager.post.controller;
 
 import com.example.blog_post_manager.dto.error.ErrorDetails;
+import com.example.blog_post_manager.post.cache.PostResponseCache;
 import com.example.blog_post_manager.post.dto.*;
+import com.example.blog_post_manager.post.exception.InvalidCursorException;
 import com.example.blog_post_manager.post.exception.ResourceNotFoundException;
 import com.example.blog_post_manager.post.service.PostService;
+import com.example.blog_post_manager.post.view.PostViewCounter;
 import com.example.blog_post_manager.security.config.SecurityConfig;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -13,6 +16,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
+import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -22,16 +26,19 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
+import static com.example.blog_post_manager.SecurityConstants.ADMIN_ROLE;
 import static com.example.blog_post_manager.SecurityConstants.TEST_USER;
 import static com.example.blog_post_manager.SecurityConstants.USER_ROLE;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(PostController.class)
-@Import(SecurityConfig.class)
+@Import({SecurityConfig.class, PostResponseCache.class})
 public class PostControllerTests {
 
     @Autowired
@@ -43,6 +50,12 @@ public class PostControllerTests {
     @MockitoBean
     PostService postService;
 
+    @MockitoBean
+    PostViewCounter postViewCounter;
+
+    @MockitoBean
+    UserDetailsService userDetailsService;
+
     @BeforeEach
     void setup() {
     }
@@ -57,11 +70,11 @@ public class PostControllerTests {
         final LocalDateTime t2 = LocalDateTime.of(2025, 1, 1, 1, 1);
         final LocalDateTime t3 = LocalDateTime.of(2025, 1, 1, 1, 1);
 
-        when(postService.getAllPostSummary(TEST_USER)).thenReturn(List.of(
-                new PostSummaryDTO(title1, TEST_USER, t),
-                new PostSummaryDTO(title2, TEST_USER, t2),
-                new PostSummaryDTO(title3, TEST_USER, t3)
-        ));
+        when(postService.getAllPostSummary(TEST_USER, null, PostService.DEFAULT_PAGE_SIZE)).thenReturn(new PostSummaryPageDTO(List.of(
+                new PostSummaryDTO(1L, title1, TEST_USER, t, 0),
+                new PostSummaryDTO(2L, title2, TEST_USER, t2, 0),
+                new PostSummaryDTO(3L, title3, TEST_USER, t3, 0)
+        ), "next-cursor"));
 
         final MvcResult result = mockMvc.perform(get("/posts")
                         .accept(MediaType.APPLICATION_JSON))
@@ -69,17 +82,79 @@ public class PostControllerTests {
                 .andReturn();
 
         final String json = result.getResponse().getContentAsString();
-        final TypeReference<List<PostSummaryDTO>> postSummaryListType = new TypeReference<>() {
-        };
-        final List<PostSummaryDTO> posts = objectMapper.readValue(json, postSummaryListType);
+        final PostSummaryPageDTO page = objectMapper.readValue(json, PostSummaryPageDTO.class);
+        final List<PostSummaryDTO> posts = page.items();
 
-        verify(postService).getAllPostSummary(TEST_USER);
+        verify(postService).getAllPostSummary(TEST_USER, null, PostService.DEFAULT_PAGE_SIZE);
 
         assertThat(posts).isNotNull();
         assertThat(posts.size()).isEqualTo(3);
         assertThat(posts.getFirst().title()).isEqualTo(title1);
         assertThat(posts.get(1).title()).isEqualTo(title2);
         assertThat(posts.getLast().title()).isEqualTo(title3);
+        assertThat(page.next()).isEqualTo("next-cursor");
+    }
+
+    @Test
+    @WithMockUser(username = TEST_USER, roles = {USER_ROLE})
+    void getAllPostsPassesCursorAndLimit() throws Exception {
+        when(postService.getAllPostSummary(TEST_USER, "abc", 5)).thenReturn(new PostSummaryPageDTO(List.of(), null));
+
+        mockMvc.perform(get("/posts")
+                        .param("cursor", "abc")
+                        .param("limit", "5")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+
+        verify(postService).getAllPostSummary(TEST_USER, "abc", 5);
+    }
+
+    @Test
+    @WithMockUser(username = TEST_USER, roles = {USER_ROLE})
+    void getAllPostsWithInvalidCursor() throws Exception {
+        when(postService.getAllPostSummary(TEST_USER, "abc", PostService.DEFAULT_PAGE_SIZE)).thenThrow(new InvalidCursorException("abc"));
+
+        MvcResult result = mockMvc.perform(get("/posts")
+                        .param("cursor", "abc")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andReturn();
+
+        ErrorDetails error = objectMapper.readValue(result.getResponse().getContentAsString(), ErrorDetails.class);
+        assertThat(error.statuscode()).isEqualTo(400);
+    }
+
+    @Test
+    @WithMockUser(username = TEST_USER, roles = {USER_ROLE})
+    void searchPosts() throws Exception {
+        final List<PostSummaryDTO> hits = List.of(new PostSummaryDTO(1L, "title1", TEST_USER, LocalDateTime.of(2025, 1, 1, 1, 1), 0));
+        when(postService.searchPosts(TEST_USER, "lucene", PostService.DEFAULT_PAGE_SIZE)).thenReturn(hits);
+
+        MvcResult result = mockMvc.perform(get("/posts/search")
+                        .param("q", "lucene")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        List<PostSummaryDTO> posts = objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<>() {
+        });
+        assertThat(posts.size()).isEqualTo(1);
+        assertThat(posts.getFirst().id()).isEqualTo(1L);
+        verify(postService, never()).searchPostsAdmin(any(), anyInt());
+    }
+
+    @Test
+    @WithMockUser(username = TEST_USER, roles = {ADMIN_ROLE})
+    void searchPostsAsAdmin() throws Exception {
+        when(postService.searchPostsAdmin("lucene", 5)).thenReturn(List.of());
+
+        mockMvc.perform(get("/posts/search")
+                        .param("q", "lucene")
+                        .param("limit", "5")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+
+        verify(postService).searchPostsAdmin("lucene", 5);
     }
 
     @Test
@@ -88,25 +163,88 @@ public class PostControllerTests {
         final String title = "title1";
         final String content = "content1";
         final LocalDateTime t = LocalDateTime.of(2025, 1, 1, 1, 1);
-        final PostDTO postDTO = new PostDTO(title, content, TEST_USER, t);
+        final PostDTO postDTO = new PostDTO(title, content, TEST_USER, t, 42);
 
         final Long id = 1L;
+        when(postService.getPostVersion(id, TEST_USER)).thenReturn(new PostVersionDTO(id, TEST_USER, t, 42));
         when(postService.getPost(id, TEST_USER)).thenReturn(postDTO);
 
         MvcResult result = mockMvc.perform(get("/posts/1")
                         .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(header().doesNotExist("Last-Modified"))
                 .andReturn();
 
         String json = result.getResponse().getContentAsString();
         PostDTO resultPost = objectMapper.readValue(json, PostDTO.class);
 
         verify(postService).getPost(id, TEST_USER);
+        verify(postViewCounter).record(id);
 
         assertThat(resultPost).isNotNull();
         assertThat(resultPost.title()).isEqualTo(title);
         assertThat(resultPost.content()).isEqualTo(content);
         assertThat(resultPost.createdAt()).isEqualTo(t);
+        assertThat(resultPost.views()).isEqualTo(42);
+    }
+
+    @Test
+    @WithMockUser(username = TEST_USER, roles = {USER_ROLE})
+    void getPostByIdNotModified() throws Exception {
+        final Long id = 1L;
+        final PostVersionDTO version = new PostVersionDTO(id, TEST_USER, LocalDateTime.of(2025, 1, 1, 1, 1), 7);
+        when(postService.getPostVersion(id, TEST_USER)).thenReturn(version);
+
+        mockMvc.perform(get("/posts/1")
+                        .header("If-None-Match", PostETags.forPost(version))
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotModified());
+
+        verify(postService, never()).getPost(id, TEST_USER);
+        verify(postViewCounter, never()).record(id);
+    }
+
+    @Test
+    @WithMockUser(username = TEST_USER, roles = {USER_ROLE})
+    void getPostByIdModifiedOnceViewsAreFlushed() throws Exception {
+        final Long id = 1L;
+        final LocalDateTime t = LocalDateTime.of(2025, 1, 1, 1, 1);
+        final PostVersionDTO before = new PostVersionDTO(id, TEST_USER, t, 7);
+        when(postService.getPostVersion(id, TEST_USER)).thenReturn(new PostVersionDTO(id, TEST_USER, t, 8));
+        when(postService.getPost(id, TEST_USER)).thenReturn(new PostDTO("title1", "content1", TEST_USER, t, 8));
+
+        mockMvc.perform(get("/posts/1")
+                        .header("If-None-Match", PostETags.forPost(before))
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+
+        // updatedAt does not move with views, so If-Modified-Since alone never answers 304.
+        mockMvc.perform(get("/posts/1")
+                        .header("If-Modified-Since", "Wed, 01 Jan 2025 01:01:00 GMT")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+
+        verify(postViewCounter, times(2)).record(id);
+    }
+
+    @Test
+    @WithMockUser(username = TEST_USER, roles = {USER_ROLE})
+    void getAllPostsNotModified() throws Exception {
+        final PostSummaryPageDTO page = new PostSummaryPageDTO(List.of(
+                new PostSummaryDTO(1L, "title1", TEST_USER, LocalDateTime.of(2025, 1, 1, 1, 1), 0)
+        ), null);
+        when(postService.getAllPostSummary(TEST_USER, null, PostService.DEFAULT_PAGE_SIZE)).thenReturn(page);
+
+        final String etag = mockMvc.perform(get("/posts")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/posts")
+                        .header("If-None-Match", etag)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotModified());
     }
 
     @Test
@@ -115,7 +253,7 @@ public class PostControllerTests {
         final Long id = 1L;
         final String errorMessage = "Cannot find post with id: " + id;
         final String url = "/posts/1";
-        when(postService.getPost(id, TEST_USER)).thenThrow(new ResourceNotFoundException(errorMessage));
+        when(postService.getPostVersion(id, TEST_USER)).thenThrow(new ResourceNotFoundException(errorMessage));
 
         MvcResult result = mockMvc.perform(get(url)
                         .accept(MediaType.APPLICATION_JSON))
@@ -125,7 +263,8 @@ public class PostControllerTests {
         String json = result.getResponse().getContentAsString();
         ErrorDetails error = objectMapper.readValue(json, ErrorDetails.class);
 
-        verify(postService).getPost(id, TEST_USER);
+        verify(postService).getPostVersion(id, TEST_USER);
+        verify(postService, never()).getPost(id, TEST_USER);
         assertThat(error.statuscode()).isEqualTo(404);
         assertThat(error.message()).isEqualTo(errorMessage);
         assertThat(error.details()).isEqualTo("uri=" + url);
@@ -198,7 +337,7 @@ public class PostControllerTests {
         final LocalDateTime date = LocalDateTime.of(2025, 1, 1, 1, 1);
         final UpdatePostDTO updatePostDTO = new UpdatePostDTO(newTitle, newContent);
 
-        final PostDTO postDTO = new PostDTO(newTitle, newContent, TEST_USER, date);
+        final PostDTO postDTO = new PostDTO(newTitle, newContent, TEST_USER, date, 0);
         when(postService.updatePost(id, newTitle, newContent, TEST_USER)).thenReturn(postDTO);
 
         MvcResult mvcResult = mockMvc.perform(put("/posts/" + id)
@@ -257,6 +396,19 @@ public class PostControllerTests {
         verify(postService).deletePost(id, TEST_USER);
     }
 
+    @Test
+    @WithMockUser(username = TEST_USER, roles = {ADMIN_ROLE})
+    void deletePostAsAdmin() throws Exception {
+        final Long id = 1L;
+
+        mockMvc.perform(delete("/posts/" + id)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNoContent());
+
+        verify(postService).deletePostAdmin(id);
+        verify(postService, never()).deletePost(any(), any());
+    }
+
 
     @Test
     @WithMockUser(username = TEST_USER, roles = {USER_ROLE})
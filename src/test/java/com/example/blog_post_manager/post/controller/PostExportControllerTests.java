@@ -0,0 +1,95 @@
+package com.example.blog_post_manager.post.controller;
+
+import com.example.blog_post_manager.post.service.PostExportService;
+import com.example.blog_post_manager.security.config.SecurityConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static com.example.blog_post_manager.SecurityConstants.ADMIN_ROLE;
+import static com.example.blog_post_manager.SecurityConstants.TEST_USER;
+import static com.example.blog_post_manager.SecurityConstants.USER_ROLE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(PostExportController.class)
+@Import(SecurityConfig.class)
+class PostExportControllerTests {
+    private static final String LINE = "{\"id\":1,\"title\":\"title\"}\n";
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockitoBean
+    PostExportService postExportService;
+
+    @MockitoBean
+    UserDetailsService userDetailsService;
+
+    @Test
+    @WithMockUser(username = TEST_USER, roles = {ADMIN_ROLE})
+    void exportPosts() throws Exception {
+        writeLineOnExport();
+
+        MvcResult started = mockMvc.perform(get("/posts/export").param("content", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson"))
+                .andExpect(content().string(LINE));
+        verify(postExportService).export(any(OutputStream.class), eq(true));
+    }
+
+    @Test
+    @WithMockUser(username = TEST_USER, roles = {ADMIN_ROLE})
+    void exportPostsGzipped() throws Exception {
+        writeLineOnExport();
+
+        MvcResult started = mockMvc.perform(get("/posts/export").param("gzip", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        byte[] body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/gzip"))
+                .andReturn().getResponse().getContentAsByteArray();
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(LINE);
+        }
+    }
+
+    @Test
+    @WithMockUser(username = TEST_USER, roles = {USER_ROLE})
+    void exportPostsRequiresAdmin() throws Exception {
+        mockMvc.perform(get("/posts/export"))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(postExportService);
+    }
+
+    private void writeLineOnExport() {
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(0);
+            out.write(LINE.getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(postExportService).export(any(OutputStream.class), anyBoolean());
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.blog_post_manager.post.controller;
+
+import com.example.blog_post_manager.post.dto.ImportChunkDTO;
+import com.example.blog_post_manager.post.dto.PostImportResultDTO;
+import com.example.blog_post_manager.post.service.PostImportService;
+import com.example.blog_post_manager.security.config.SecurityConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static com.example.blog_post_manager.SecurityConstants.ADMIN_ROLE;
+import static com.example.blog_post_manager.SecurityConstants.TEST_USER;
+import static com.example.blog_post_manager.SecurityConstants.USER_ROLE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(PostImportController.class)
+@Import(SecurityConfig.class)
+class PostImportControllerTests {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @MockitoBean
+    PostImportService postImportService;
+
+    @MockitoBean
+    UserDetailsService userDetailsService;
+
+    @Test
+    @WithMockUser(username = TEST_USER, roles = {ADMIN_ROLE})
+    void importPosts() throws Exception {
+        ImportChunkDTO chunk = new ImportChunkDTO(1, 1, 1, 1, List.of());
+        when(postImportService.importPosts(any(InputStream.class), any())).thenAnswer(invocation -> {
+            invocation.<Consumer<ImportChunkDTO>>getArgument(1).accept(chunk);
+            return new PostImportResultDTO(1, 0, 1);
+        });
+
+        MvcResult started = mockMvc.perform(post("/posts/import")
+                        .contentType("application/x-ndjson")
+                        .content("{\"title\":\"title\",\"content\":\"content\",\"author\":\"" + TEST_USER + "\"}\n"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+        List<String> lines = body.lines().toList();
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readValue(lines.get(0), ImportChunkDTO.class)).isEqualTo(chunk);
+        assertThat(objectMapper.readValue(lines.get(1), PostImportResultDTO.class).imported()).isEqualTo(1);
+    }
+
+    @Test
+    @WithMockUser(username = TEST_USER, roles = {USER_ROLE})
+    void importPostsRequiresAdmin() throws Exception {
+        mockMvc.perform(post("/posts/import")
+                        .contentType("application/x-ndjson")
+                        .content("{}\n"))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(postImportService);
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.blog_post_manager.post.search;
+
+import com.example.blog_post_manager.post.dto.PostSummaryDTO;
+import com.example.blog_post_manager.post.event.PostDeletedEvent;
+import com.example.blog_post_manager.post.event.PostSavedEvent;
+import com.example.blog_post_manager.post.repository.PostRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static com.example.blog_post_manager.SecurityConstants.TEST_USER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PostSearchIndexTests {
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 1, 1, 1);
+
+    @Mock
+    private PostRepository postRepository;
+
+    private PostSearchIndex index;
+
+    @BeforeEach
+    void setup() {
+        index = new PostSearchIndex(postRepository, "", 2);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        index.destroy();
+    }
+
+    @Test
+    void findsPostsByTitleAndContent() {
+        index.onPostSaved(saved(1L, "Tuning garbage collection", "Notes on G1 pause times", TEST_USER));
+        index.onPostSaved(saved(2L, "Sourdough", "Flour, water and garbage-free kitchens", TEST_USER));
+
+        assertThat(ids(index.search("garbage", null, 10))).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(ids(index.search("pause", null, 10))).containsExactly(1L);
+        assertThat(index.search("garbage", null, 10).getFirst())
+                .isEqualTo(new PostSummaryDTO(1L, "Tuning garbage collection", TEST_USER, CREATED_AT, 0));
+    }
+
+    @Test
+    void nonAdminSearchOnlySeesOwnPosts() {
+        index.onPostSaved(saved(1L, "Mine", "shared words", TEST_USER));
+        index.onPostSaved(saved(2L, "Theirs", "shared words", "other"));
+
+        assertThat(ids(index.search("shared", TEST_USER, 10))).containsExactly(1L);
+        assertThat(ids(index.search("shared", null, 10))).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void updatesReplaceAndDeletesRemoveDocuments() {
+        index.onPostSaved(saved(1L, "Title", "original words", TEST_USER));
+        index.onPostSaved(saved(1L, "Title", "rewritten text", TEST_USER));
+
+        assertThat(index.search("original", null, 10)).isEmpty();
+        assertThat(ids(index.search("rewritten", null, 10))).containsExactly(1L);
+
+        index.onPostDeleted(new PostDeletedEvent(1L));
+
+        assertThat(index.search("rewritten", null, 10)).isEmpty();
+    }
+
+    @Test
+    void rebuildsFromTheDatabaseWhenOutOfSync() {
+        when(postRepository.count()).thenReturn(2500L);
+        when(postRepository.findMaxId()).thenReturn(2500L);
+        when(postRepository.findIndexedPostsByIdBetween(anyLong(), anyLong())).thenAnswer(invocation -> {
+            long first = invocation.getArgument(0);
+            long last = invocation.getArgument(1);
+            return LongStream.rangeClosed(first, last)
+                    .mapToObj(id -> new IndexedPost(id, "Post " + id, "bulk content", TEST_USER, CREATED_AT, CREATED_AT))
+                    .toList();
+        });
+
+        index.afterSingletonsInstantiated();
+        index.startupRebuild().join();
+
+        assertThat(index.status()).isEqualTo(PostSearchIndex.Status.READY);
+        assertThat(index.search("bulk", null, 5000)).hasSize(2500);
+    }
+
+    @Test
+    void startsWithoutRebuildingWhenNothingChangedSinceTheLastCommit(@TempDir Path dir) throws IOException {
+        PostSearchIndex committed = new PostSearchIndex(postRepository, dir.toString(), 2);
+        committed.onPostSaved(saved(1L, "Title", "content", TEST_USER));
+        committed.commit();
+        committed.destroy();
+        when(postRepository.count()).thenReturn(1L);
+        when(postRepository.findMaxUpdatedAt()).thenReturn(CREATED_AT);
+
+        PostSearchIndex reopened = new PostSearchIndex(postRepository, dir.toString(), 2);
+        try {
+            reopened.afterSingletonsInstantiated();
+
+            assertThat(reopened.status()).isEqualTo(PostSearchIndex.Status.READY);
+            verify(postRepository, never()).findMaxId();
+        } finally {
+            reopened.destroy();
+        }
+    }
+
+    @Test
+    void rebuildsWhenAPostChangedAfterTheLastCommit(@TempDir Path dir) throws IOException {
+        PostSearchIndex committed = new PostSearchIndex(postRepository, dir.toString(), 2);
+        committed.onPostSaved(saved(1L, "Title", "stale words", TEST_USER));
+        committed.commit();
+        committed.destroy();
+        // Same number of posts, but one was edited and its event never reached a commit.
+        when(postRepository.count()).thenReturn(1L);
+        when(postRepository.findMaxUpdatedAt()).thenReturn(CREATED_AT.plusMinutes(1));
+        when(postRepository.findMaxId()).thenReturn(1L);
+        when(postRepository.findIndexedPostsByIdBetween(1L, 1L)).thenReturn(List.of(
+                new IndexedPost(1L, "Title", "fresh words", TEST_USER, CREATED_AT, CREATED_AT.plusMinutes(1))));
+
+        PostSearchIndex reopened = new PostSearchIndex(postRepository, dir.toString(), 2);
+        try {
+            reopened.afterSingletonsInstantiated();
+            reopened.startupRebuild().join();
+
+            assertThat(reopened.search("stale", null, 10)).isEmpty();
+            assertThat(ids(reopened.search("fresh", null, 10))).containsExactly(1L);
+        } finally {
+            reopened.destroy();
+        }
+    }
+
+    @Test
+    void rebuildKeepsChangesThatArriveWhileItRuns() {
+        when(postRepository.findMaxId()).thenReturn(1L);
+        // The rebuild reads the row, then the post is edited and its event lands before the batch is written.
+        when(postRepository.findIndexedPostsByIdBetween(1L, 1L)).thenAnswer(invocation -> {
+            List<IndexedPost> read = List.of(new IndexedPost(1L, "Title", "old words", TEST_USER, CREATED_AT, CREATED_AT));
+            index.onPostSaved(saved(1L, "Title", "new words", TEST_USER));
+            return read;
+        });
+
+        index.rebuild();
+
+        assertThat(index.search("old", null, 10)).isEmpty();
+        assertThat(ids(index.search("new", null, 10))).containsExactly(1L);
+    }
+
+    @Test
+    void queriesWithoutSearchableTermsFindNothing() {
+        index.onPostSaved(saved(1L, "Title", "content", TEST_USER));
+
+        assertThat(index.search("the", null, 10)).isEmpty();
+    }
+
+    private static PostSavedEvent saved(Long id, String title, String content, String author) {
+        return new PostSavedEvent(new IndexedPost(id, title, content, author, CREATED_AT, CREATED_AT));
+    }
+
+    private static List<Long> ids(List<PostSummaryDTO> posts) {
+        return posts.stream().map(PostSummaryDTO::id).toList();
+    }
+}
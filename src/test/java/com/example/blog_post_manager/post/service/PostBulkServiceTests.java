@@ -0,0 +1,137 @@
+package com.example.blog_post_manager.post.service;
+
+import com.example.blog_post_manager.post.dto.BulkPostItemDTO;
+import com.example.blog_post_manager.post.dto.BulkPostItemDTO.Status;
+import com.example.blog_post_manager.post.dto.BulkPostResultDTO;
+import com.example.blog_post_manager.post.dto.BulkPostSelectionDTO;
+import com.example.blog_post_manager.post.dto.PostSummaryDTO;
+import com.example.blog_post_manager.post.exception.ResourceNotFoundException;
+import com.example.blog_post_manager.post.repository.PostRepository;
+import com.example.blog_post_manager.post.search.PostSearchIndex;
+import com.example.blog_post_manager.user.model.User;
+import com.example.blog_post_manager.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.example.blog_post_manager.SecurityConstants.TEST_USER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Chunks commit on their own, so this runs against the real transaction manager rather than @DataJpaTest.
+@SpringBootTest(properties = {"app.post.bulk.chunk-size=2", "app.post.bulk.max-results=6"})
+class PostBulkServiceTests {
+    private static final String OTHER = "other";
+    private static final String SPAMMER = "spammer";
+
+    @Autowired
+    private PostBulkService postBulkService;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostSearchIndex postSearchIndex;
+
+    private final List<Long> own = new ArrayList<>();
+    private final List<Long> spam = new ArrayList<>();
+    private Long othersPost;
+
+    @BeforeEach
+    void setup() {
+        userRepository.save(new User(TEST_USER, "password"));
+        userRepository.save(new User(OTHER, "password"));
+        userRepository.save(new User(SPAMMER, "password"));
+        for (int i = 0; i < 3; i++) own.add(postService.createPost("own post " + i, "content", TEST_USER).id());
+        for (int i = 0; i < 5; i++) spam.add(postService.createPost("cheap pills " + i, "content", SPAMMER).id());
+        othersPost = postService.createPost("other post", "content", OTHER).id();
+    }
+
+    @AfterEach
+    void cleanup() {
+        postRepository.deleteAll();
+        userRepository.deleteAll();
+        postSearchIndex.rebuild();
+    }
+
+    @Test
+    void deletesOwnPostsByIdAndReportsTheRest() {
+        List<Long> ids = new ArrayList<>(own);
+        ids.add(othersPost);
+        ids.add(-1L);
+
+        BulkPostResultDTO result = postBulkService.deletePosts(new BulkPostSelectionDTO(ids, null, null, null), TEST_USER);
+
+        assertThat(result.succeeded()).isEqualTo(3);
+        assertThat(result.failed()).isEqualTo(2);
+        assertThat(result.results()).extracting(BulkPostItemDTO::status).containsExactly(
+                Status.DELETED, Status.DELETED, Status.DELETED, Status.FORBIDDEN, Status.NOT_FOUND);
+        assertThat(postRepository.existsById(othersPost)).isTrue();
+        assertThat(postRepository.count()).isEqualTo(6);
+        assertThat(postSearchIndex.search("own", null, 10)).isEmpty();
+    }
+
+    @Test
+    void adminDeletesByAuthorAndCreatedAtRange() {
+        LocalDateTime hourAgo = LocalDateTime.now().minusHours(1);
+
+        BulkPostResultDTO none = postBulkService.deletePostsAdmin(new BulkPostSelectionDTO(null, SPAMMER, null, hourAgo));
+        BulkPostResultDTO result = postBulkService.deletePostsAdmin(new BulkPostSelectionDTO(null, SPAMMER, hourAgo, null));
+
+        assertThat(none.results()).isEmpty();
+        assertThat(result.succeeded()).isEqualTo(5);
+        assertThat(result.results()).extracting(BulkPostItemDTO::id).containsExactlyElementsOf(spam);
+        assertThat(postRepository.count()).isEqualTo(4);
+    }
+
+    @Test
+    void filtersOnlyMatchTheCallersOwnPosts() {
+        BulkPostResultDTO result = postBulkService.deletePosts(new BulkPostSelectionDTO(null, SPAMMER, null, null), TEST_USER);
+
+        assertThat(result.results()).isEmpty();
+        assertThat(postRepository.count()).isEqualTo(9);
+    }
+
+    @Test
+    void reassignsPostsAndReindexesThemForTheNewAuthor() {
+        List<Long> ids = new ArrayList<>(spam);
+        ids.add(-1L);
+
+        BulkPostResultDTO result = postBulkService.reassignPostsAdmin(new BulkPostSelectionDTO(ids, null, null, null), OTHER);
+
+        assertThat(result.succeeded()).isEqualTo(5);
+        assertThat(result.results()).last().extracting(BulkPostItemDTO::status).isEqualTo(Status.NOT_FOUND);
+        assertThat(postRepository.findVersionsByIdIn(spam)).allSatisfy(v -> assertThat(v.author()).isEqualTo(OTHER));
+        assertThat(postSearchIndex.search("pills", OTHER, 10)).extracting(PostSummaryDTO::id).containsExactlyInAnyOrderElementsOf(spam);
+        assertThat(postSearchIndex.search("pills", SPAMMER, 10)).isEmpty();
+    }
+
+    @Test
+    void listsOnlyTheFirstResultsButCountsEveryPost() {
+        BulkPostResultDTO result = postBulkService.deletePostsAdmin(
+                new BulkPostSelectionDTO(null, null, LocalDateTime.now().minusHours(1), null));
+
+        assertThat(result.succeeded()).isEqualTo(9);
+        assertThat(result.results()).hasSize(6);
+        assertThat(result.truncated()).isTrue();
+        assertThat(postRepository.count()).isZero();
+    }
+
+    @Test
+    void reassigningToAnUnknownUserFails() {
+        assertThatThrownBy(() -> postBulkService.reassignPostsAdmin(new BulkPostSelectionDTO(own, null, null, null), "nobody"))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+}
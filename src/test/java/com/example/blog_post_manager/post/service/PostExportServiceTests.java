@@ -0,0 +1,90 @@
+package com.example.blog_post_manager.post.service;
+
+import com.example.blog_post_manager.post.dto.ExportPostDTO;
+import com.example.blog_post_manager.post.model.Post;
+import com.example.blog_post_manager.post.repository.PostRepository;
+import com.example.blog_post_manager.user.model.User;
+import com.example.blog_post_manager.user.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.example.blog_post_manager.SecurityConstants.TEST_USER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "app.post.export.fetch-size=2")
+class PostExportServiceTests {
+
+    @Autowired
+    private PostExportService postExportService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setup() {
+        User u = userRepository.save(new User(TEST_USER, "password"));
+        postRepository.saveAll(IntStream.rangeClosed(1, 5)
+                .mapToObj(i -> new Post("title" + i, "content" + i, u))
+                .toList());
+    }
+
+    @AfterEach
+    void cleanup() {
+        postRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void exportsEveryPostAsOneJsonLineInIdOrder() throws Exception {
+        List<ExportPostDTO> posts = export(true);
+
+        assertThat(posts).extracting(ExportPostDTO::title)
+                .containsExactly("title1", "title2", "title3", "title4", "title5");
+        assertThat(posts).extracting(ExportPostDTO::content)
+                .containsExactly("content1", "content2", "content3", "content4", "content5");
+        assertThat(posts).allSatisfy(p -> {
+            assertThat(p.author()).isEqualTo(TEST_USER);
+            assertThat(p.createdAt()).isNotNull();
+        });
+    }
+
+    @Test
+    void leavesContentOutUnlessAskedFor() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        postExportService.export(out, false);
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).doesNotContain("content");
+        assertThat(out.toString(StandardCharsets.UTF_8).lines()).hasSize(5);
+    }
+
+    private List<ExportPostDTO> export(boolean includeContent) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        postExportService.export(out, includeContent);
+        String ndjson = out.toString(StandardCharsets.UTF_8);
+        assertThat(ndjson).endsWith("\n");
+        return ndjson.lines()
+                .map(line -> {
+                    try {
+                        return objectMapper.readValue(line, ExportPostDTO.class);
+                    } catch (Exception e) {
+                        throw new AssertionError("Not a JSON line: " + line, e);
+                    }
+                })
+                .toList();
+    }
+}
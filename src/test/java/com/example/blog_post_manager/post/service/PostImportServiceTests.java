@@ -0,0 +1,144 @@
+package com.example.blog_post_manager.post.service;
+
+import com.example.blog_post_manager.post.dto.ImportChunkDTO;
+import com.example.blog_post_manager.post.dto.ImportErrorDTO;
+import com.example.blog_post_manager.post.dto.PostImportResultDTO;
+import com.example.blog_post_manager.post.repository.PostRepository;
+import com.example.blog_post_manager.post.search.PostSearchIndex;
+import com.example.blog_post_manager.user.model.User;
+import com.example.blog_post_manager.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.example.blog_post_manager.SecurityConstants.TEST_USER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Chunks commit on their own, so this runs against the real transaction manager rather than @DataJpaTest.
+@SpringBootTest(properties = {"app.post.import.chunk-size=2", "app.post.import.max-line-bytes=512"})
+class PostImportServiceTests {
+
+    @Autowired
+    private PostImportService postImportService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostSearchIndex postSearchIndex;
+
+    @BeforeEach
+    void setup() {
+        userRepository.save(new User(TEST_USER, "password"));
+    }
+
+    @AfterEach
+    void cleanup() {
+        postRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void importsValidLinesInChunks() throws IOException {
+        List<ImportChunkDTO> chunks = new ArrayList<>();
+        PostImportResultDTO result = postImportService.importPosts(ndjson(
+                post("first", "2024-01-01T10:00:00"),
+                post("second", null),
+                post("third", null)), chunks::add);
+
+        assertThat(result.imported()).isEqualTo(3);
+        assertThat(result.failed()).isZero();
+        assertThat(result.chunks()).isEqualTo(2);
+        assertThat(chunks).extracting(ImportChunkDTO::imported).containsExactly(2, 1);
+        assertThat(chunks).extracting(ImportChunkDTO::lastLine).containsExactly(2L, 3L);
+        assertThat(postRepository.count()).isEqualTo(3);
+        assertThat(postRepository.findAll())
+                .anySatisfy(p -> assertThat(p.getCreatedAt()).isEqualTo(LocalDateTime.of(2024, 1, 1, 10, 0)));
+    }
+
+    @Test
+    void chunksAreReportedAsTheyCommit() throws IOException {
+        List<Long> committedWhenReported = new ArrayList<>();
+        postImportService.importPosts(ndjson(
+                post("first", null),
+                post("second", null),
+                post("third", null)), chunk -> committedWhenReported.add(postRepository.count()));
+
+        assertThat(committedWhenReported).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void reportsBadLinesWithoutFailingTheImport() throws IOException {
+        List<ImportChunkDTO> chunks = new ArrayList<>();
+        PostImportResultDTO result = postImportService.importPosts(ndjson(
+                post("good", null),
+                "{not json",
+                "{\"title\":\"ok title\",\"content\":\"x\",\"author\":\"" + TEST_USER + "\"}",
+                "{\"title\":\"ok title\",\"content\":\"content\",\"author\":\"nobody\"}",
+                "",
+                post("also good", null)), chunks::add);
+
+        assertThat(result.imported()).isEqualTo(2);
+        assertThat(result.failed()).isEqualTo(3);
+        assertThat(chunks).flatExtracting(ImportChunkDTO::errors)
+                .extracting(ImportErrorDTO::line)
+                .containsExactly(2L, 3L, 4L);
+        assertThat(chunks).flatExtracting(ImportChunkDTO::errors)
+                .extracting(ImportErrorDTO::message)
+                .contains("Content must be atleast 3 characters long!", "Cannot find user with username nobody");
+    }
+
+    @Test
+    void rejectedLinesCloseChunksLikeImportedOnes() throws IOException {
+        List<ImportChunkDTO> chunks = new ArrayList<>();
+        PostImportResultDTO result = postImportService.importPosts(ndjson(
+                "{bad", "{bad", "{bad", "{bad", "{bad"), chunks::add);
+
+        assertThat(result.imported()).isZero();
+        assertThat(result.failed()).isEqualTo(5);
+        assertThat(chunks).extracting(c -> c.errors().size()).containsExactly(2, 2, 1);
+        assertThat(chunks).extracting(ImportChunkDTO::lastLine).containsExactly(2L, 4L, 5L);
+    }
+
+    @Test
+    void skipsLinesLongerThanTheLimit() throws IOException {
+        List<ImportChunkDTO> chunks = new ArrayList<>();
+        PostImportResultDTO result = postImportService.importPosts(ndjson(
+                post("x".repeat(1000), null),
+                post("after the long line", null)), chunks::add);
+
+        assertThat(result.imported()).isEqualTo(1);
+        assertThat(chunks).flatExtracting(ImportChunkDTO::errors)
+                .containsExactly(new ImportErrorDTO(1, "Line is longer than 512 bytes"));
+        assertThat(postRepository.findAll()).extracting(p -> p.getTitle()).containsExactly("after the long line");
+    }
+
+    @Test
+    void importedPostsAreSearchable() throws IOException {
+        postImportService.importPosts(ndjson(post("searchable zebra", null)), chunk -> {
+        });
+
+        assertThat(postSearchIndex.search("zebra", TEST_USER, 10)).hasSize(1);
+    }
+
+    private static String post(String title, String createdAt) {
+        return "{\"title\":\"" + title + "\",\"content\":\"imported content\",\"author\":\"" + TEST_USER + "\""
+                + (createdAt != null ? ",\"createdAt\":\"" + createdAt + "\"" : "") + "}";
+    }
+
+    private static ByteArrayInputStream ndjson(String... lines) {
+        return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+}
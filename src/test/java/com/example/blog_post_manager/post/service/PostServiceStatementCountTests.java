@@ -0,0 +1,125 @@
+package com.example.blog_post_manager.post.service;
+
+import com.example.blog_post_manager.HibernateStatementCounter;
+import com.example.blog_post_manager.post.cache.PostCache;
+import com.example.blog_post_manager.post.content.PostContentCodec;
+import com.example.blog_post_manager.post.dto.PostDTO;
+import com.example.blog_post_manager.post.dto.PostSummaryPageDTO;
+import com.example.blog_post_manager.post.model.Post;
+import com.example.blog_post_manager.post.search.PostSearchIndex;
+import com.example.blog_post_manager.user.model.Role;
+import com.example.blog_post_manager.user.model.User;
+import com.example.blog_post_manager.user.model.UserRole;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.access.AccessDeniedException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import({PostService.class, PostCache.class, PostSearchIndex.class, PostContentCodec.class})
+class PostServiceStatementCountTests {
+    private static final String AUTHOR = "author";
+    private static final String ADMIN = "admin";
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PostService postService;
+
+    private HibernateStatementCounter counter;
+    private Long postId;
+
+    @BeforeEach
+    void setup() {
+        Role userRole = entityManager.persist(new Role(UserRole.USER));
+        Role adminRole = entityManager.persist(new Role(UserRole.ADMIN));
+
+        User author = new User(AUTHOR, "password");
+        author.addRole(userRole);
+        entityManager.persist(author);
+
+        User admin = new User(ADMIN, "password");
+        admin.addRole(userRole);
+        admin.addRole(adminRole);
+        entityManager.persist(admin);
+
+        for (int i = 0; i < 5; i++) {
+            Post p = entityManager.persist(new Post("title" + i, "content" + i, author));
+            postId = p.getId();
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        counter = new HibernateStatementCounter(entityManagerFactory);
+    }
+
+    @Test
+    void getAllPostSummary_UserLookupAndOnePageQuery() {
+        PostSummaryPageDTO page = counter.assertStatementCount(2, () -> postService.getAllPostSummary(AUTHOR, null, 3));
+        assertThat(page.items()).hasSize(3);
+        assertThat(page.next()).isNotNull();
+
+        entityManager.clear();
+        PostSummaryPageDTO nextPage = counter.assertStatementCount(2, () -> postService.getAllPostSummary(AUTHOR, page.next(), 3));
+        assertThat(nextPage.items()).hasSize(2);
+    }
+
+    @Test
+    void getAllPostSummaryAdmin_OnePageQuery() {
+        PostSummaryPageDTO page = counter.assertStatementCount(1, () -> postService.getAllPostSummaryAdmin(null, 10));
+        assertThat(page.items()).hasSize(5);
+    }
+
+    @Test
+    void getPost_OnePostLookupThenNothingOnceCached() {
+        PostDTO own = counter.assertStatementCount(1, () -> postService.getPost(postId, AUTHOR));
+        assertThat(own.author()).isEqualTo(AUTHOR);
+
+        entityManager.clear();
+        PostDTO asAdmin = counter.assertStatementCount(0, () -> postService.getPostAdmin(postId));
+        assertThat(asAdmin.author()).isEqualTo(AUTHOR);
+    }
+
+    @Test
+    void createPost_UserLookupAndPostAndBodyInserts() {
+        counter.assertStatementCount(3, () -> {
+            postService.createPost("new title", "new content", AUTHOR);
+            entityManager.flush();
+        });
+    }
+
+    @Test
+    void updatePost_OwnerScopedLookupAndUpdatesWithoutReadingTheBody() {
+        counter.assertStatementCount(3, () -> {
+            postService.updatePost(postId, "updated title", "updated content", AUTHOR);
+            entityManager.flush();
+        });
+    }
+
+    @Test
+    void deletePost_OneOwnerScopedDelete() {
+        counter.assertStatementCount(1, () -> postService.deletePost(postId, AUTHOR));
+    }
+
+    @Test
+    void deletePost_SomeoneElsesPostAddsOnlyAnExistenceCheck() {
+        counter.assertStatementCount(2, () -> assertThatThrownBy(() -> postService.deletePost(postId, ADMIN))
+                .isInstanceOf(AccessDeniedException.class));
+    }
+
+    @Test
+    void deletePostAdmin_OneDelete() {
+        counter.assertStatementCount(1, () -> postService.deletePostAdmin(postId));
+    }
+}
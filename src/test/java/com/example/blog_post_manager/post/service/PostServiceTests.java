@@ -1,11 +1,23 @@
 package com.example.blog_post_manager.post.service;
 
+import com.example.blog_post_manager.post.cache.PostCache;
+import com.example.blog_post_manager.post.content.PostContent;
 import com.example.blog_post_manager.post.dto.CreatePostResponseDTO;
 import com.example.blog_post_manager.post.dto.PostDTO;
 import com.example.blog_post_manager.post.dto.PostSummaryDTO;
+import com.example.blog_post_manager.post.dto.PostSummaryPageDTO;
+import com.example.blog_post_manager.post.dto.PostVersionDTO;
+import com.example.blog_post_manager.post.dto.PostViewsDTO;
+import com.example.blog_post_manager.post.event.PostDeletedEvent;
+import com.example.blog_post_manager.post.event.PostSavedEvent;
+import com.example.blog_post_manager.post.exception.InvalidCursorException;
 import com.example.blog_post_manager.post.exception.ResourceNotFoundException;
 import com.example.blog_post_manager.post.model.Post;
+import com.example.blog_post_manager.post.pagination.PostCursor;
+import com.example.blog_post_manager.post.repository.PostBodyRepository;
 import com.example.blog_post_manager.post.repository.PostRepository;
+import com.example.blog_post_manager.post.search.IndexedPost;
+import com.example.blog_post_manager.post.search.PostSearchIndex;
 import com.example.blog_post_manager.user.model.Role;
 import com.example.blog_post_manager.user.model.User;
 import com.example.blog_post_manager.user.model.UserRole;
@@ -15,8 +27,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -25,6 +44,7 @@ import static com.example.blog_post_manager.SecurityConstants.TEST_USER;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,42 +53,122 @@ public class PostServiceTests {
     @Mock
     private PostRepository postRepository;
 
+    @Mock
+    private PostBodyRepository postBodyRepository;
+
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private PostSearchIndex postSearchIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private PostCache postCache = new PostCache(Duration.ofMinutes(1), 100, 100, Duration.ofSeconds(5));
+
     @InjectMocks
     private PostService postService;
 
     @Test
     void findsAllPosts() {
         User u = new User("username", "password");
-        final List<Post> posts = List.of(
-                new Post("title1", "content1", u),
-                new Post("title2", "content2", u)
+        final LocalDateTime t = LocalDateTime.of(2025, 1, 1, 1, 1);
+        final List<PostSummaryDTO> posts = List.of(
+                new PostSummaryDTO(2L, "title1", "username", t, 0),
+                new PostSummaryDTO(1L, "title2", "username", t, 0)
         );
-        when(postRepository.findByAuthor(u)).thenReturn(posts);
+        when(postRepository.findFirstPageByAuthor(eq(u), any(Pageable.class))).thenReturn(posts);
         when(userRepository.findByUsername("username")).thenReturn(Optional.of(u));
 
-        List<PostSummaryDTO> postSummaryDTOs = postService.getAllPostSummary("username");
+        PostSummaryPageDTO page = postService.getAllPostSummary("username", null, PostService.DEFAULT_PAGE_SIZE);
 
-        verify(postRepository).findByAuthor(u);
+        verify(postRepository).findFirstPageByAuthor(u, PageRequest.ofSize(PostService.DEFAULT_PAGE_SIZE + 1));
 
+        List<PostSummaryDTO> postSummaryDTOs = page.items();
         assertThat(postSummaryDTOs).isNotNull();
         assertThat(postSummaryDTOs.size()).isEqualTo(2);
         assertThat(postSummaryDTOs.getFirst().title()).isEqualTo("title1");
         assertThat(postSummaryDTOs.get(1).title()).isEqualTo("title2");
+        assertThat(page.next()).isNull();
     }
 
     @Test
     void findsAllPostsWhenThereAreNoPosts() {
         final User u = new User(TEST_USER, "password");
-        when(postRepository.findByAuthor(u)).thenReturn(List.of());
+        when(postRepository.findFirstPageByAuthor(eq(u), any(Pageable.class))).thenReturn(List.of());
         when(userRepository.findByUsername("username")).thenReturn(Optional.of(u));
 
-        List<PostSummaryDTO> postSummaryDTOs = postService.getAllPostSummary("username");
+        PostSummaryPageDTO page = postService.getAllPostSummary("username", null, PostService.DEFAULT_PAGE_SIZE);
 
-        assertThat(postSummaryDTOs).isNotNull();
-        assertThat(postSummaryDTOs.size()).isEqualTo(0);
+        assertThat(page.items()).isNotNull();
+        assertThat(page.items().size()).isEqualTo(0);
+        assertThat(page.next()).isNull();
+    }
+
+    @Test
+    void findsAllPosts_ReturnsCursorWhenThereIsAnotherPage() {
+        final LocalDateTime t = LocalDateTime.of(2025, 1, 1, 1, 1);
+        when(postRepository.findFirstPage(PageRequest.ofSize(2))).thenReturn(List.of(
+                new PostSummaryDTO(2L, "title1", TEST_USER, t, 0),
+                new PostSummaryDTO(1L, "title2", TEST_USER, t, 0)
+        ));
+
+        PostSummaryPageDTO page = postService.getAllPostSummaryAdmin(null, 1);
+
+        assertThat(page.items().size()).isEqualTo(1);
+        assertThat(page.items().getFirst().title()).isEqualTo("title1");
+        assertThat(PostCursor.decode(page.next())).isEqualTo(new PostCursor(t, 2L));
+    }
+
+    @Test
+    void findsAllPosts_ContinuesAfterCursor() {
+        final User u = new User(TEST_USER, "password");
+        final LocalDateTime t = LocalDateTime.of(2025, 1, 1, 1, 1);
+        final String cursor = new PostCursor(t, 2L).encode();
+        when(userRepository.findByUsername(TEST_USER)).thenReturn(Optional.of(u));
+        when(postRepository.findPageByAuthorAfter(eq(u), eq(t), eq(2L), any(Pageable.class)))
+                .thenReturn(List.of(new PostSummaryDTO(1L, "title2", TEST_USER, t, 0)));
+
+        PostSummaryPageDTO page = postService.getAllPostSummary(TEST_USER, cursor, PostService.DEFAULT_PAGE_SIZE);
+
+        verify(postRepository, never()).findFirstPageByAuthor(any(User.class), any(Pageable.class));
+        assertThat(page.items().size()).isEqualTo(1);
+        assertThat(page.next()).isNull();
+    }
+
+    @Test
+    void findsAllPosts_ThrowsOnMalformedCursor() {
+        assertThrows(InvalidCursorException.class, () -> postService.getAllPostSummaryAdmin("not a cursor", 10));
+        verifyNoInteractions(postRepository);
+    }
+
+    @Test
+    void searchPosts_IsLimitedToTheUsersOwnPostsAndCarriesViewCounts() {
+        final User u = new User(TEST_USER, "password");
+        final PostSummaryDTO hit = new PostSummaryDTO(1L, "title", TEST_USER, LocalDateTime.now(), 0);
+        when(userRepository.findByUsername(TEST_USER)).thenReturn(Optional.of(u));
+        when(postSearchIndex.search("lucene", TEST_USER, PostService.MAX_PAGE_SIZE)).thenReturn(List.of(hit));
+        when(postRepository.findViewsByIdIn(List.of(1L))).thenReturn(List.of(new PostViewsDTO(1L, 7)));
+
+        assertThat(postService.searchPosts(TEST_USER, "lucene", 1000)).isEqualTo(List.of(hit.withViews(7)));
+    }
+
+    @Test
+    void searchPostsAdmin_SearchesAllPosts() {
+        postService.searchPostsAdmin("lucene", 10);
+
+        verify(postSearchIndex).search("lucene", null, 10);
+    }
+
+    @Test
+    void searchPosts_BlankQueryReturnsNothing() {
+        assertThat(postService.searchPostsAdmin("  ", 10)).isEqualTo(List.of());
+        verifyNoInteractions(postSearchIndex);
     }
 
     @Test
@@ -76,46 +176,121 @@ public class PostServiceTests {
         User u = new User(TEST_USER, "password");
         Post p = new Post("title1", "content1", u);
 
-        when(postRepository.findById(1L)).thenReturn(Optional.of(p));
-        when(userRepository.findByUsername(TEST_USER)).thenReturn(Optional.of(u));
+        when(postRepository.findWithAuthorAndBodyById(1L)).thenReturn(Optional.of(p));
 
         PostDTO postDTO = postService.getPost(1L, TEST_USER);
 
-        verify(postRepository).findById(1L);
+        verify(postRepository).findWithAuthorAndBodyById(1L);
         assertThat(postDTO.title()).isEqualTo("title1");
         assertThat(postDTO.content()).isEqualTo("content1");
     }
 
     @Test
     void getPostIfPostDoesNotExist() {
-        User u = new User(TEST_USER, "password");
-        when(postRepository.findById(1L)).thenReturn(Optional.empty());
-        when(userRepository.findByUsername(TEST_USER)).thenReturn(Optional.of(u));
+        when(postRepository.findWithAuthorAndBodyById(1L)).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () -> {
             postService.getPost(1L, TEST_USER);
         });
-        verify(postRepository).findById(1L);
+        verify(postRepository).findWithAuthorAndBodyById(1L);
     }
 
     @Test
     void getPost_AdminShouldBeAbleToGetSomeoneElsesPost() {
-        final User adminUser = new User(TEST_USER, "password");
-        adminUser.addRole(new Role(UserRole.ADMIN));
         final User defaultUser = new User("default", "password");
         defaultUser.addRole(new Role(UserRole.USER));
         final Post p = new Post("title1", "content1", defaultUser);
 
-        when(postRepository.findById(1L)).thenReturn(Optional.of(p));
-        when(userRepository.findByUsername(TEST_USER)).thenReturn(Optional.of(adminUser));
+        when(postRepository.findWithAuthorAndBodyById(1L)).thenReturn(Optional.of(p));
 
-        PostDTO postDTO = postService.getPost(1L, TEST_USER);
+        PostDTO postDTO = postService.getPostAdmin(1L);
 
-        verify(postRepository).findById(1L);
+        verify(postRepository).findWithAuthorAndBodyById(1L);
+        verifyNoInteractions(userRepository);
         assertThat(postDTO.title()).isEqualTo("title1");
         assertThat(postDTO.content()).isEqualTo("content1");
     }
 
+    @Test
+    void getPost_SecondReadIsServedFromCache() {
+        User u = new User(TEST_USER, "password");
+        Post p = new Post("title1", "content1", u);
+
+        when(postRepository.findWithAuthorAndBodyById(1L)).thenReturn(Optional.of(p));
+
+        postService.getPost(1L, TEST_USER);
+        PostDTO postDTO = postService.getPost(1L, TEST_USER);
+
+        verify(postRepository, times(1)).findWithAuthorAndBodyById(1L);
+        assertThat(postDTO.title()).isEqualTo("title1");
+    }
+
+    @Test
+    void getPost_CachedPostIsStillCheckedForOwnership() {
+        final User owner = new User(TEST_USER, "password");
+        final Post p = new Post("title1", "content1", owner);
+
+        when(postRepository.findWithAuthorAndBodyById(1L)).thenReturn(Optional.of(p));
+
+        postService.getPost(1L, TEST_USER);
+
+        assertThrows(AccessDeniedException.class, () -> postService.getPost(1L, "other"));
+        verify(postRepository, times(1)).findWithAuthorAndBodyById(1L);
+    }
+
+    @Test
+    void getPostVersion_LoadsThroughPostCacheOnMiss() {
+        final User u = new User(TEST_USER, "password");
+        final Post p = new Post("title1", "content1", u);
+
+        when(postRepository.findWithAuthorAndBodyById(1L)).thenReturn(Optional.of(p));
+
+        PostVersionDTO version = postService.getPostVersion(1L, TEST_USER);
+        postService.getPost(1L, TEST_USER);
+
+        assertThat(version.updatedAt()).isEqualTo(p.getUpdatedAt());
+        verify(postCache, times(2)).get(eq(1L), any());
+        verify(postRepository, times(1)).findWithAuthorAndBodyById(1L);
+    }
+
+    @Test
+    void getPostVersion_IsServedFromCachedPost() {
+        final User u = new User(TEST_USER, "password");
+        final Post p = new Post("title1", "content1", u);
+
+        when(postRepository.findWithAuthorAndBodyById(1L)).thenReturn(Optional.of(p));
+
+        postService.getPost(1L, TEST_USER);
+        PostVersionDTO version = postService.getPostVersion(1L, TEST_USER);
+
+        assertThat(version.author()).isEqualTo(TEST_USER);
+        verify(postRepository, times(1)).findWithAuthorAndBodyById(1L);
+    }
+
+    @Test
+    void getPostVersion_ChecksOwnership() {
+        when(postRepository.findWithAuthorAndBodyById(1L))
+                .thenReturn(Optional.of(new Post("title1", "content1", new User(TEST_USER, "password"))));
+
+        assertThrows(AccessDeniedException.class, () -> postService.getPostVersion(1L, "other"));
+    }
+
+    @Test
+    void updatePost_InvalidatesCachedPost() {
+        final User u = new User(TEST_USER, "password");
+        final Post p = new Post("title", "content", u);
+
+        when(postRepository.findWithAuthorByIdAndAuthorUsername(1L, TEST_USER)).thenReturn(Optional.of(p));
+        when(postRepository.findWithAuthorAndBodyById(1L)).thenReturn(Optional.of(p));
+
+        postService.getPost(1L, TEST_USER);
+        postService.updatePost(1L, "updated title", "updated content", TEST_USER);
+        PostDTO postDTO = postService.getPost(1L, TEST_USER);
+
+        verify(postCache).invalidateAfterCommit(1L);
+        assertThat(postDTO.title()).isEqualTo("updated title");
+    }
+
     @Test
     void createPost() {
         final String title = "title1";
@@ -129,6 +304,7 @@ public class PostServiceTests {
         when(pWithId.getTitle()).thenReturn(title);
         when(pWithId.getContent()).thenReturn(content);
         when(pWithId.getCreatedAt()).thenReturn(now);
+        when(pWithId.getUpdatedAt()).thenReturn(now);
         when(pWithId.getAuthor()).thenReturn(u);
 
         when(postRepository.save(any(Post.class))).thenReturn(pWithId);
@@ -146,6 +322,7 @@ public class PostServiceTests {
 
         assertThat(createPostResponseDTO).isNotNull();
         assertThat(createPostResponseDTO.id()).isEqualTo(1L);
+        verify(eventPublisher).publishEvent(new PostSavedEvent(new IndexedPost(1L, title, content, username, now, now)));
         assertThat(createPostResponseDTO.title()).isEqualTo(title);
         assertThat(createPostResponseDTO.content()).isEqualTo(content);
         assertThat(createPostResponseDTO.createdAt()).isEqualTo(now);
@@ -164,12 +341,12 @@ public class PostServiceTests {
 
         Post p = new Post(title, content, u);
 
-        when(postRepository.findById(id)).thenReturn(Optional.of(p));
-        when(userRepository.findByUsername(TEST_USER)).thenReturn(Optional.of(u));
+        when(postRepository.findWithAuthorByIdAndAuthorUsername(id, TEST_USER)).thenReturn(Optional.of(p));
 
         PostDTO postDTO = postService.updatePost(id, updatedTitle, updatedContent, TEST_USER);
 
-        verify(postRepository).findById(id);
+        verify(postBodyRepository).updateContent(id, PostContent.of(updatedContent));
+        verifyNoInteractions(userRepository);
 
         assertThat(postDTO).isNotNull();
         assertThat(postDTO.title()).isEqualTo(updatedTitle);
@@ -179,47 +356,91 @@ public class PostServiceTests {
     @Test
     void updatePostWhenPostDoesNotExist() {
         Long id = 1L;
-        String updatedTitle = "titleUpdated";
-        String updatedContent = "contentUpdated";
-        User u = new User(TEST_USER, "password");
 
-        when(postRepository.findById(any(Long.class))).thenReturn(Optional.empty());
-        when(userRepository.findByUsername(TEST_USER)).thenReturn(Optional.of(u));
+        when(postRepository.findWithAuthorByIdAndAuthorUsername(id, TEST_USER)).thenReturn(Optional.empty());
+        when(postRepository.existsById(id)).thenReturn(false);
 
         assertThrows(ResourceNotFoundException.class, () -> {
-            postService.updatePost(id, updatedTitle, updatedContent, TEST_USER);
+            postService.updatePost(id, "titleUpdated", "contentUpdated", TEST_USER);
         });
-        verify(postRepository).findById(id);
+        verifyNoInteractions(postBodyRepository);
+    }
+
+    @Test
+    void updatePost_SomeoneElsesPostIsForbidden() {
+        Long id = 1L;
+
+        when(postRepository.findWithAuthorByIdAndAuthorUsername(id, TEST_USER)).thenReturn(Optional.empty());
+        when(postRepository.existsById(id)).thenReturn(true);
+
+        assertThrows(AccessDeniedException.class, () -> {
+            postService.updatePost(id, "titleUpdated", "contentUpdated", TEST_USER);
+        });
+        verifyNoInteractions(postBodyRepository);
+    }
+
+    @Test
+    void updatePostAdmin_UpdatesSomeoneElsesPost() {
+        final Long id = 1L;
+        final Post p = new Post("title", "content", new User("default", "password"));
+
+        when(postRepository.findWithAuthorById(id)).thenReturn(Optional.of(p));
+
+        PostDTO postDTO = postService.updatePostAdmin(id, "titleUpdated", "contentUpdated");
+
+        verify(postBodyRepository).updateContent(id, PostContent.of("contentUpdated"));
+        assertThat(postDTO.author()).isEqualTo("default");
+        assertThat(postDTO.title()).isEqualTo("titleUpdated");
     }
 
     @Test
     void deletePost() {
         final Long id = 1L;
-        final User u = new User(TEST_USER, "password");
-        final Post p = new Post("title", "content", u);
 
-        when(postRepository.findById(id)).thenReturn(Optional.of(p));
-        when(userRepository.findByUsername(TEST_USER)).thenReturn(Optional.of(u));
+        when(postRepository.deleteByIdAndAuthorUsername(id, TEST_USER)).thenReturn(1);
 
         postService.deletePost(id, TEST_USER);
 
-        verify(postRepository).findById(id);
-        verify(postRepository).delete(p);
+        verify(postRepository, never()).existsById(id);
+        verify(eventPublisher).publishEvent(new PostDeletedEvent(id));
     }
 
     @Test
     void deletePostWhenPostDoesNotExist() {
         final Long id = 1L;
-        final User u = new User(TEST_USER, "password");
 
-        when(postRepository.findById(id)).thenReturn(Optional.empty());
-        when(userRepository.findByUsername(TEST_USER)).thenReturn(Optional.of(u));
+        when(postRepository.deleteByIdAndAuthorUsername(id, TEST_USER)).thenReturn(0);
+        when(postRepository.existsById(id)).thenReturn(false);
 
         assertThrows(ResourceNotFoundException.class, () -> {
             postService.deletePost(id, TEST_USER);
         });
 
-        verify(postRepository).findById(id);
-        verify(postRepository, never()).deleteById(id);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void deletePost_SomeoneElsesPostIsForbidden() {
+        final Long id = 1L;
+
+        when(postRepository.deleteByIdAndAuthorUsername(id, TEST_USER)).thenReturn(0);
+        when(postRepository.existsById(id)).thenReturn(true);
+
+        assertThrows(AccessDeniedException.class, () -> {
+            postService.deletePost(id, TEST_USER);
+        });
+
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void deletePostAdmin() {
+        final Long id = 1L;
+
+        when(postRepository.deletePostById(id)).thenReturn(1);
+
+        postService.deletePostAdmin(id);
+
+        verify(eventPublisher).publishEvent(new PostDeletedEvent(id));
     }
 }
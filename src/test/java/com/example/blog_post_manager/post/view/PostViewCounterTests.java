@@ -0,0 +1,104 @@
+package com.example.blog_post_manager.post.view;
+
+import com.example.blog_post_manager.post.cache.PostCache;
+import com.example.blog_post_manager.post.model.Post;
+import com.example.blog_post_manager.post.repository.PostRepository;
+import com.example.blog_post_manager.post.service.PostService;
+import com.example.blog_post_manager.user.model.User;
+import com.example.blog_post_manager.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.example.blog_post_manager.SecurityConstants.TEST_USER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The scheduled flush is pushed out of the way so each test decides when counts are written.
+@SpringBootTest(properties = "app.post.views.flush-interval-ms=3600000")
+class PostViewCounterTests {
+
+    @Autowired
+    private PostViewCounter postViewCounter;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostCache postCache;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long first;
+    private Long second;
+
+    @BeforeEach
+    void setup() {
+        User author = userRepository.save(new User(TEST_USER, "password"));
+        first = postRepository.save(new Post("first", "content", author)).getId();
+        second = postRepository.save(new Post("second", "content", author)).getId();
+    }
+
+    @AfterEach
+    void cleanup() {
+        postRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void concurrentViewsAreWrittenInOneFlush() throws Exception {
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                tasks.add(executor.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        postViewCounter.record(i % 4 == 0 ? second : first);
+                    }
+                }));
+            }
+            for (Future<?> task : tasks) task.get();
+        }
+
+        postViewCounter.flush();
+
+        assertThat(postRepository.findById(first).orElseThrow().getViews()).isEqualTo(6000);
+        assertThat(postRepository.findById(second).orElseThrow().getViews()).isEqualTo(2000);
+    }
+
+    @Test
+    void flushLeavesTheVersionAloneAndUpdatesCachedPostsInPlace() {
+        LocalDateTime updatedAt = postRepository.findById(first).orElseThrow().getUpdatedAt();
+        assertThat(postService.getPost(first, TEST_USER).views()).isZero();
+
+        postViewCounter.record(first);
+        postViewCounter.record(first);
+        postViewCounter.flush();
+        postViewCounter.flush();
+
+        assertThat(postCache.getIfPresent(first)).isNotNull();
+        assertThat(postService.getPost(first, TEST_USER).views()).isEqualTo(2);
+        assertThat(postService.getPostVersion(first, TEST_USER).views()).isEqualTo(2);
+        assertThat(postRepository.findById(first).orElseThrow().getUpdatedAt()).isEqualTo(updatedAt);
+    }
+
+    @Test
+    void shutdownFlushesPendingViews() {
+        postViewCounter.record(second);
+
+        postViewCounter.destroy();
+
+        assertThat(postRepository.findById(second).orElseThrow().getViews()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.blog_post_manager.security.authentication;
+
+import com.example.blog_post_manager.user.event.UserCredentialsChangedEvent;
+import com.example.blog_post_manager.user.model.Role;
+import com.example.blog_post_manager.user.model.User;
+import com.example.blog_post_manager.user.model.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+
+import static com.example.blog_post_manager.SecurityConstants.TEST_USER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingAuthenticationProviderTest {
+    private static final String PASSWORD = "password";
+    private static final String HASH = "hash";
+
+    @Mock
+    private UserDetailsService userDetailsService;
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    private VerifiedCredentialCache cache;
+    private CachingAuthenticationProvider provider;
+
+    @BeforeEach
+    void setup() {
+        cache = new VerifiedCredentialCache(Duration.ofMinutes(5), 100);
+        provider = new CachingAuthenticationProvider(userDetailsService, passwordEncoder, cache);
+    }
+
+    private void givenUser() {
+        User u = new User(TEST_USER, HASH);
+        u.addRole(new Role(UserRole.USER));
+        when(userDetailsService.loadUserByUsername(TEST_USER)).thenReturn(u);
+    }
+
+    @Test
+    void authenticate_OnlyVerifiesPasswordOnce() {
+        givenUser();
+        when(passwordEncoder.matches(PASSWORD, HASH)).thenReturn(true);
+
+        Authentication first = provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated(TEST_USER, PASSWORD));
+        Authentication second = provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated(TEST_USER, PASSWORD));
+
+        verify(userDetailsService, times(1)).loadUserByUsername(TEST_USER);
+        verify(passwordEncoder, times(1)).matches(PASSWORD, HASH);
+        assertThat(second.isAuthenticated()).isTrue();
+        assertThat(second.getName()).isEqualTo(TEST_USER);
+        assertThat(second.getCredentials()).isNull();
+        assertThat(second.getPrincipal()).isEqualTo(TEST_USER);
+        assertThat(second.getAuthorities()).isEqualTo(first.getAuthorities());
+    }
+
+    @Test
+    void authenticate_WrongPasswordIsNeverServedFromCache() {
+        givenUser();
+        when(passwordEncoder.matches(PASSWORD, HASH)).thenReturn(true);
+        when(passwordEncoder.matches("wrong", HASH)).thenReturn(false);
+
+        provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated(TEST_USER, PASSWORD));
+
+        assertThrows(BadCredentialsException.class,
+                () -> provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated(TEST_USER, "wrong")));
+        assertThrows(BadCredentialsException.class,
+                () -> provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated(TEST_USER, "wrong")));
+        verify(passwordEncoder, times(2)).matches("wrong", HASH);
+    }
+
+    @Test
+    void authenticate_VerifiesAgainAfterCredentialsChanged() {
+        givenUser();
+        when(passwordEncoder.matches(PASSWORD, HASH)).thenReturn(true);
+
+        provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated(TEST_USER, PASSWORD));
+        cache.onUserCredentialsChanged(new UserCredentialsChangedEvent(TEST_USER));
+        provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated(TEST_USER, PASSWORD));
+
+        verify(passwordEncoder, times(2)).matches(PASSWORD, HASH);
+    }
+
+    @Test
+    void authenticate_ChangeDuringVerificationIsNotCached() {
+        User u = new User(TEST_USER, HASH);
+        u.addRole(new Role(UserRole.USER));
+        // The user is read, then a role change commits before the result would be cached.
+        when(userDetailsService.loadUserByUsername(TEST_USER)).thenAnswer(invocation -> {
+            cache.onUserCredentialsChanged(new UserCredentialsChangedEvent(TEST_USER));
+            return u;
+        });
+        when(passwordEncoder.matches(PASSWORD, HASH)).thenReturn(true);
+
+        provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated(TEST_USER, PASSWORD));
+        provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated(TEST_USER, PASSWORD));
+
+        verify(userDetailsService, times(2)).loadUserByUsername(TEST_USER);
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.blog_post_manager.security.controller;
+
+import com.example.blog_post_manager.security.config.SecurityConfig;
+import com.example.blog_post_manager.security.dto.TokenResponseDTO;
+import com.example.blog_post_manager.security.token.TokenRevocationList;
+import com.example.blog_post_manager.security.token.TokenService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static com.example.blog_post_manager.SecurityConstants.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(AuthController.class)
+@Import({SecurityConfig.class, TokenService.class})
+class AuthControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private UserDetailsService userDetailsService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JwtDecoder jwtDecoder;
+
+    @Autowired
+    private TokenRevocationList tokenRevocationList;
+
+    private TokenResponseDTO issueToken() throws Exception {
+        MvcResult result = mockMvc.perform(post("/auth/token")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readValue(result.getResponse().getContentAsString(), TokenResponseDTO.class);
+    }
+
+    @Test
+    @WithMockUser(username = TEST_USER, roles = {USER_ROLE, ADMIN_ROLE})
+    void issueToken_ShouldCarryUsernameAndRoles() throws Exception {
+        TokenResponseDTO token = issueToken();
+
+        Jwt jwt = jwtDecoder.decode(token.accessToken());
+        assertThat(token.tokenType()).isEqualTo("Bearer");
+        assertThat(token.expiresIn()).isPositive();
+        assertThat(jwt.getSubject()).isEqualTo(TEST_USER);
+        assertThat(jwt.getClaimAsStringList(TokenService.ROLES_CLAIM)).containsExactlyInAnyOrder(USER_ROLE, ADMIN_ROLE);
+    }
+
+    @Test
+    void issueToken_ShouldRequireAuthentication() throws Exception {
+        mockMvc.perform(post("/auth/token"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @WithMockUser(username = TEST_USER, roles = {USER_ROLE})
+    void bearerToken_ShouldAuthenticateUntilRevoked() throws Exception {
+        TokenResponseDTO token = issueToken();
+
+        // Authenticated, but a token may not be exchanged for a new token.
+        mockMvc.perform(post("/auth/token")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token.accessToken()))
+                .andExpect(status().isForbidden());
+
+        tokenRevocationList.revoke(TEST_USER);
+
+        mockMvc.perform(post("/auth/token")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token.accessToken()))
+                .andExpect(status().isUnauthorized());
+    }
+}
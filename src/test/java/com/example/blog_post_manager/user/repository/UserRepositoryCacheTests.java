@@ -0,0 +1,107 @@
+package com.example.blog_post_manager.user.repository;
+
+import com.example.blog_post_manager.HibernateStatementCounter;
+import com.example.blog_post_manager.user.model.Role;
+import com.example.blog_post_manager.user.model.User;
+import com.example.blog_post_manager.user.model.UserRole;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+import static com.example.blog_post_manager.SecurityConstants.TEST_USER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Runs each step in its own committed transaction, since the second-level cache only sees committed data.
+@SpringBootTest
+class UserRepositoryCacheTests {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private HibernateStatementCounter counter;
+
+    @BeforeEach
+    void setup() {
+        entityManagerFactory.getCache().evictAll();
+        counter = new HibernateStatementCounter(entityManagerFactory);
+        inTransaction(() -> {
+            Role userRole = roleRepository.save(new Role(UserRole.USER));
+            roleRepository.save(new Role(UserRole.ADMIN));
+            User u = new User(TEST_USER, "password");
+            u.addRole(userRole);
+            return userRepository.save(u);
+        });
+    }
+
+    @AfterEach
+    void cleanup() {
+        inTransaction(() -> {
+            userRepository.deleteAll();
+            roleRepository.deleteAll();
+            return null;
+        });
+    }
+
+    private <T> T inTransaction(Supplier<T> action) {
+        return transactionTemplate.execute(status -> action.get());
+    }
+
+    @Test
+    void findByUsername_IsServedFromCacheWithRolesInitialized() {
+        inTransaction(() -> userRepository.findByUsername(TEST_USER));
+
+        User cached = counter.assertStatementCount(0, () -> inTransaction(() -> userRepository.findByUsername(TEST_USER).orElseThrow()));
+
+        assertThat(Hibernate.isInitialized(cached.getRoles())).isTrue();
+        assertThat(cached.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+    }
+
+    @Test
+    void findByName_IsServedFromCache() {
+        inTransaction(() -> roleRepository.findByName(UserRole.USER));
+
+        counter.assertStatementCount(0, () -> inTransaction(() -> roleRepository.findByName(UserRole.USER).orElseThrow()));
+    }
+
+    @Test
+    void findByUsername_SeesRoleChangesAfterCommit() {
+        inTransaction(() -> userRepository.findByUsername(TEST_USER));
+
+        inTransaction(() -> {
+            User u = userRepository.findByUsername(TEST_USER).orElseThrow();
+            u.addRole(roleRepository.findByName(UserRole.ADMIN).orElseThrow());
+            return u;
+        });
+
+        User reloaded = inTransaction(() -> userRepository.findByUsername(TEST_USER).orElseThrow());
+        assertThat(reloaded.getAuthorities()).extracting("authority").containsExactlyInAnyOrder("ROLE_USER", "ROLE_ADMIN");
+    }
+
+    @Test
+    void findByUsername_MissesAfterUserIsDeleted() {
+        inTransaction(() -> userRepository.findByUsername(TEST_USER));
+
+        inTransaction(() -> {
+            userRepository.deleteByUsername(TEST_USER);
+            return null;
+        });
+
+        assertThat(inTransaction(() -> userRepository.findByUsername(TEST_USER))).isEmpty();
+    }
+}
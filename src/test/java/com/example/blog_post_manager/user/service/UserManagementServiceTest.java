@@ -4,6 +4,7 @@ import com.example.blog_post_manager.post.exception.ResourceNotFoundException;
 import com.example.blog_post_manager.user.dto.AddRoleToUserResponseDTO;
 import com.example.blog_post_manager.user.dto.CreateUserResponseDTO;
 import com.example.blog_post_manager.user.dto.UserResponseDTO;
+import com.example.blog_post_manager.user.event.UserCredentialsChangedEvent;
 import com.example.blog_post_manager.user.exception.UserWithUsernameAlreadyExistsException;
 import com.example.blog_post_manager.user.model.Role;
 import com.example.blog_post_manager.user.model.User;
@@ -16,6 +17,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -37,6 +39,8 @@ class UserManagementServiceTest {
     private RoleRepository roleRepository;
     @Mock
     private PasswordEncoder passwordEncoder;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
     @InjectMocks
     private UserManagementService userManagementService;
 
@@ -209,6 +213,7 @@ class UserManagementServiceTest {
 
         verify(userRepository).findByUsername(username);
         verify(roleRepository).findByName(adminUserRole);
+        verify(eventPublisher).publishEvent(new UserCredentialsChangedEvent(username));
 
         assertThat(result.username()).isEqualTo(username);
         assertThat(result.role()).isEqualTo(adminRole.getName().name());
@@ -266,6 +271,7 @@ class UserManagementServiceTest {
 
         verify(userRepository).findByUsername(username);
         verify(roleRepository).findByName(userRole);
+        verify(eventPublisher).publishEvent(new UserCredentialsChangedEvent(username));
     }
 
     @Test
@@ -300,20 +306,24 @@ class UserManagementServiceTest {
     @Test
     protected void deleteUser_shouldNotThrowAnyExceptionsOnHappyPathWithId() {
         final Long id = 1L;
-        when(userRepository.existsById(id)).thenReturn(true);
+        final User u = new User("username", "password");
+        when(userRepository.findById(id)).thenReturn(Optional.of(u));
         assertDoesNotThrow(() -> userManagementService.deleteUser(id));
 
-        verify(userRepository).existsById(id);
-        verify(userRepository).deleteById(id);
+        verify(userRepository).findById(id);
+        verify(userRepository).delete(u);
+        verify(eventPublisher).publishEvent(new UserCredentialsChangedEvent("username"));
     }
 
     @Test
     protected void deleteUser_shouldThrowExceptionIfUserDoesntExistWithId() {
         final Long id = 1L;
-        when(userRepository.existsById(id)).thenReturn(false);
+        when(userRepository.findById(id)).thenReturn(Optional.empty());
         assertThrows(ResourceNotFoundException.class, () -> userManagementService.deleteUser(id));
 
-        verify(userRepository).existsById(id);
+        verify(userRepository).findById(id);
+        verify(userRepository, never()).delete(any(User.class));
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -324,6 +334,7 @@ class UserManagementServiceTest {
 
         verify(userRepository).existsByUsername(username);
         verify(userRepository).deleteByUsername(username);
+        verify(eventPublisher).publishEvent(new UserCredentialsChangedEvent(username));
     }
 
     @Test